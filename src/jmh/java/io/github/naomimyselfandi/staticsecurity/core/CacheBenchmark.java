@@ -0,0 +1,79 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CacheBenchmark {
+
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        int next(int bound) {
+            return random.nextInt(bound);
+        }
+
+    }
+
+    @Param({"LRU", "CLOCK"})
+    public String eviction;
+
+    // a working set which fits in the cache, and one which keeps it evicting
+    @Param({"64", "1024"})
+    public int size;
+
+    private CachePolicy.Store<Integer, Integer> cache;
+
+    private Integer[] inputs;
+
+    @Setup
+    public void setup() {
+        cache = new CachePolicy(256, CachePolicy.Eviction.valueOf(eviction)).create(Function.identity());
+        inputs = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer threads1(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Integer threads2(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer threads4(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer threads8(Keys keys) {
+        return get(keys);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Integer threadsMax(Keys keys) {
+        return get(keys);
+    }
+
+    private Integer get(Keys keys) {
+        return cache.get(inputs[keys.next(inputs.length)]);
+    }
+
+}
@@ -0,0 +1,105 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ClearanceInvocationHandlerBenchmark {
+
+    public interface BenchmarkClearance extends Clearance {
+
+        UUID getId();
+
+        Optional<String> getName();
+
+        default int getLimit() {
+            return 10;
+        }
+
+        @Helper(Helper.Type.CACHED)
+        default String label() {
+            return getId() + ":" + getName().orElse("");
+        }
+
+    }
+
+    private static final SharedHelperResolver NO_SHARED_HELPERS = new SharedHelperResolver(
+            new StaticListableBeanFactory().getBeanProvider(CacheManager.class));
+
+    private static final Cache<ResolvableType, Object> NO_BEANS = new KeyedCache<>(CachePolicy.DEFAULT) {
+
+        @Override
+        Object calculate(ResolvableType input) {
+            throw new UnsupportedOperationException();
+        }
+
+    };
+
+    @Param({"legacy", "dispatch"})
+    public String handler;
+
+    private BenchmarkClearance clearance;
+
+    @Setup
+    public void setup() {
+        var auth = new TestingAuthenticationToken("user", null);
+        var data = Map.<String, Object>of("id", UUID.randomUUID());
+        var type = BenchmarkClearance.class;
+        var layout = new ClearanceLayout(new PropertyCache(new GeneratedClearanceIndex(new DefaultResourceLoader())).get(type));
+        InvocationHandler invocationHandler = switch (handler) {
+            case "legacy" -> new LegacyClearanceInvocationHandler(type, auth, data, NO_BEANS);
+            case "dispatch" -> new ClearanceInvocationHandler(
+                    type,
+                    new ClearanceDispatchTable(type, layout, NO_BEANS, NO_SHARED_HELPERS),
+                    auth,
+                    ClearanceData.of(layout, data),
+                    false,
+                    null);
+            default -> throw new IllegalArgumentException(handler);
+        };
+        var classLoader = type.getClassLoader();
+        clearance = (BenchmarkClearance) Proxy.newProxyInstance(classLoader, new Class<?>[]{type}, invocationHandler);
+    }
+
+    @Benchmark
+    public Object requiredProperty() {
+        return clearance.getId();
+    }
+
+    @Benchmark
+    public Object omittedOptionalProperty() {
+        return clearance.getName();
+    }
+
+    @Benchmark
+    public int defaultProperty() {
+        return clearance.getLimit();
+    }
+
+    @Benchmark
+    public Object cachedHelper() {
+        return clearance.label();
+    }
+
+    @Benchmark
+    public Object auth() {
+        return clearance.__auth__();
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DefaultMethodBenchmark {
+
+    public interface BenchmarkClearance extends Clearance {
+
+        default int getLimit() {
+            return 10;
+        }
+
+        @Helper(Helper.Type.DIRECT)
+        default int scaled(int factor) {
+            return getLimit() * factor;
+        }
+
+    }
+
+    private static final Object[] NO_ARGS = {};
+
+    private static final SharedHelperResolver NO_SHARED_HELPERS = new SharedHelperResolver(
+            new StaticListableBeanFactory().getBeanProvider(CacheManager.class));
+
+    private static final Cache<ResolvableType, Object> NO_BEANS = new KeyedCache<>(CachePolicy.DEFAULT) {
+
+        @Override
+        Object calculate(ResolvableType input) {
+            throw new UnsupportedOperationException();
+        }
+
+    };
+
+    @Param({"invokeDefault", "methodHandle"})
+    public String strategy;
+
+    private BenchmarkClearance clearance;
+
+    @Setup
+    public void setup() {
+        var type = BenchmarkClearance.class;
+        var layout = new ClearanceLayout(new PropertyCache(new GeneratedClearanceIndex(new DefaultResourceLoader())).get(type));
+        var dispatchTable = new ClearanceDispatchTable(type, layout, NO_BEANS, NO_SHARED_HELPERS);
+        InvocationHandler handler = switch (strategy) {
+            case "invokeDefault" -> InvocationHandler::invokeDefault;
+            case "methodHandle" -> (proxy, method, args) -> {
+                var defaultMethod = Objects.requireNonNull(dispatchTable.get(method).defaultMethod());
+                var arguments = args == null ? NO_ARGS : args;
+                return defaultMethod.invokeExact(proxy, arguments);
+            };
+            default -> throw new IllegalArgumentException(strategy);
+        };
+        var classLoader = type.getClassLoader();
+        clearance = (BenchmarkClearance) Proxy.newProxyInstance(classLoader, new Class<?>[]{type}, handler);
+    }
+
+    @Benchmark
+    public int defaultProperty() {
+        return clearance.getLimit();
+    }
+
+    @Benchmark
+    public int directHelper() {
+        return clearance.scaled(3);
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PropertyProviderBenchmark {
+
+    public interface BenchmarkClearance extends Clearance {
+
+        long getId();
+
+        String getName();
+
+        String getOwner();
+
+        int getVersion();
+
+    }
+
+    public record BenchmarkSource(long id, String name, String owner, int version) {}
+
+    @Param({"reflective", "compiledReflective", "record", "field"})
+    public String strategy;
+
+    private DataSource<BenchmarkSource> dataSource;
+
+    private final BenchmarkSource source = new BenchmarkSource(42L, "Document", "alice", 7);
+
+    @Setup
+    public void setup() {
+        var propertyCache = new PropertyCache(new GeneratedClearanceIndex(new DefaultResourceLoader()));
+        var conversionService = new DefaultConversionService();
+        var propertyProviderCache = new PropertyProviderCache(propertyCache, List.of(), conversionService);
+        var layout = new ClearanceLayout(propertyCache.get(BenchmarkClearance.class));
+        var properties = propertyCache.get(BenchmarkSource.class);
+        var type = BenchmarkSource.class;
+        dataSource = switch (strategy) {
+            case "reflective" -> new ExtractingDataSource<>(
+                    new ReflectivePropertyProvider<>(type, properties, conversionService, propertyProviderCache),
+                    layout);
+            case "compiledReflective" -> CompiledDataSource.compile(
+                    new ReflectivePropertyProvider<>(type, properties, conversionService, propertyProviderCache),
+                    layout);
+            case "record" -> CompiledDataSource.compile(
+                    new RecordPropertyProvider<>(type, properties, conversionService, propertyProviderCache),
+                    layout);
+            case "field" -> CompiledDataSource.compile(
+                    new FieldPropertyProvider<>(type, properties, conversionService, propertyProviderCache),
+                    layout);
+            default -> throw new IllegalArgumentException(strategy);
+        };
+    }
+
+    @Benchmark
+    public ClearanceData extract() {
+        return dataSource.getData(source).get();
+    }
+
+}
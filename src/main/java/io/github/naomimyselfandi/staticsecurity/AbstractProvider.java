@@ -5,19 +5,38 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An abstract property provider implementation. This class implements source
  * object flattening by delegating to Spring's conversion service, which is
  * appropriate for most providers, and provides a partial implementation of
- * {@link #extract(Object, Property)} which converts extracted values.
+ * {@link #extract(Object, Property)} which converts extracted values. The type
+ * descriptors for each combination of extracted value type and property are
+ * resolved once and reused.
  *
  * @param <S> The type of source object which this provider handles.
  */
 public abstract class AbstractProvider<S> implements PropertyProvider<S> {
 
+    private record ConversionKey(Class<?> valueType, Property property) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ConversionKey that && valueType == that.valueType && property == that.property;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * valueType.hashCode() + System.identityHashCode(property);
+        }
+
+    }
+
     protected final ConversionService conversionService;
     private final TypeDescriptor sourceType;
+    private final Map<ConversionKey, Conversion> conversions = new ConcurrentHashMap<>();
 
     protected AbstractProvider(ConversionService conversionService) {
         this.conversionService = conversionService;
@@ -35,13 +54,12 @@ public abstract class AbstractProvider<S> implements PropertyProvider<S> {
         if (value == null) {
             return null;
         }
-        var valueType = TypeDescriptor.forObject(value);
-        var propertyType = property.type();
-        if (conversionService.canConvert(valueType, propertyType)) {
-            return conversionService.convert(value, propertyType);
-        } else {
-            return null;
-        }
+        var key = new ConversionKey(value.getClass(), property);
+        return conversions.computeIfAbsent(key, this::resolve).convert(value);
+    }
+
+    private Conversion resolve(ConversionKey key) {
+        return Conversion.of(conversionService, TypeDescriptor.valueOf(key.valueType()), key.property().type());
     }
 
     @Override
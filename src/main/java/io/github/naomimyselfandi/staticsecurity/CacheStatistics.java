@@ -0,0 +1,17 @@
+package io.github.naomimyselfandi.staticsecurity;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of an internal metadata cache's activity since the application
+ * started. Counters are updated without synchronization, so a snapshot taken
+ * while the cache is in use may be slightly inconsistent.
+ *
+ * @param hits The number of lookups answered from the cache.
+ * @param misses The number of lookups which computed a value.
+ * @param evictions The number of values removed to make room for others.
+ * Caches keyed by class never evict values.
+ * @param computeTime The total time spent computing values, including time
+ * spent in lookups on other caches.
+ */
+public record CacheStatistics(long hits, long misses, long evictions, Duration computeTime) {}
@@ -100,6 +100,147 @@ public interface Clearance {
 
     }
 
+    /**
+     * Configure how the annotated clearance type's instances are compared. By
+     * default, clearances are only equal to themselves. If value equality is
+     * enabled, two clearances of the same type are equal if they were issued
+     * to the same principal and have equal values; their hash codes are
+     * computed once, when they're issued, so they can be used as cache keys.
+     *
+     * <p>Value equality can also be enabled for all clearance types by setting
+     * the {@code staticsecurity.value-equality} property to {@code true}. If
+     * that property is set, this annotation may be used to opt out of value
+     * equality for a particular clearance type.</p>
+     */
+    @Documented
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface ValueEquality {
+
+        /**
+         * Specify whether value equality is enabled.
+         * @return Whether value equality is enabled.
+         */
+        boolean value() default true;
+
+    }
+
+    /**
+     * Share the annotated {@linkplain Helper.Type#CACHED cached helper}'s
+     * results across clearances by storing them in a named Spring
+     * {@link org.springframework.cache.Cache Cache}. This is useful for
+     * helpers which load frequently used records, since the records can then
+     * be reused across requests instead of being loaded again for each one.
+     * This annotation has no effect on other kinds of helper methods.
+     *
+     * <p>If the application context contains a single
+     * {@link org.springframework.cache.CacheManager CacheManager}, it is asked
+     * for the named cache, and the {@link #ttlSeconds()} and
+     * {@link #maxSize()} hints are ignored; the cache should be configured
+     * through the cache manager instead. Otherwise, a local in-memory cache is
+     * created, which uses those hints. Clearance types that use the same cache
+     * name share the same cache.</p>
+     *
+     * <p>A result is cached under a key made up of the helper method, its
+     * arguments, and the values of the properties named by {@link #key()}.
+     * Since results are shared between users, the key must include any
+     * property the result depends on; set {@link #principal()} if the result
+     * depends on the user for whom the clearance was issued.</p>
+     */
+    @Documented
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface SharedCache {
+
+        /**
+         * Specify the cache's name.
+         * @return The cache's name.
+         */
+        String value();
+
+        /**
+         * Specify the properties to include in each result's key.
+         * @return The names of the properties to include in each key.
+         */
+        String[] key() default {};
+
+        /**
+         * Specify whether to include the principal in each result's key.
+         * @return Whether to include the principal in each key.
+         */
+        boolean principal() default false;
+
+        /**
+         * Specify how long a local cache keeps each result. This hint is
+         * ignored if the cache is provided by a {@code CacheManager}.
+         * @return The number of seconds to keep results, or zero to keep them
+         * indefinitely.
+         */
+        long ttlSeconds() default 0;
+
+        /**
+         * Specify how many results a local cache may hold. This hint is
+         * ignored if the cache is provided by a {@code CacheManager}.
+         * @return The maximum number of results, or zero for no limit.
+         */
+        int maxSize() default 0;
+
+    }
+
+    /**
+     * Load the annotated {@linkplain Helper.Type#CACHED cached helper}'s
+     * results in batches. When clearances are created together through
+     * {@link StaticSecurityService#createAll(java.util.List, Class)}, the first
+     * call to the helper on any of them loads the results for all of them, and
+     * the other clearances' calls return their share of that result. This
+     * replaces one lookup per clearance with a single bulk lookup.
+     *
+     * <p>The annotation names a <em>batch loader</em>: a {@code default}
+     * {@linkplain Helper.Type#DIRECT direct helper} declared in the same
+     * clearance type, which accepts a {@code List} of clearances and returns a
+     * {@code List} of results in the same order. The batch loader is called on
+     * whichever clearance needed the results first. Batched helpers must not
+     * have parameters. Clearances which weren't created together simply call
+     * the helper's own {@code default} implementation.</p>
+     *
+     * <p>Since batched helpers are usually called by access policies, the
+     * batch loader receives every clearance in the batch whose policies
+     * haven't denied access <em>yet</em>, including those whose policies
+     * haven't run. Clearances which were already denied are left out; if one
+     * of them calls the helper anyway, it's loaded on its own.</p>
+     */
+    @Documented
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Batch {
+
+        /**
+         * Specify the batch loader.
+         * @return The name of the batch loader.
+         */
+        String value();
+
+    }
+
+    /**
+     * Start the annotated {@linkplain Helper.Type#CACHED cached helper} as
+     * soon as a clearance is issued, before its access policies are checked.
+     * All of a clearance's prefetched helpers run concurrently, so policies
+     * which consult several slow helpers wait for the slowest of them instead
+     * of for each in turn. Policies which call a prefetched helper receive its
+     * memoized result, waiting for it if necessary.
+     *
+     * <p>Prefetched helpers must not have parameters. They run on the
+     * {@link java.util.concurrent.Executor Executor} bean named
+     * {@code staticSecurityPrefetchExecutor} if there is one, or on virtual
+     * threads if the JVM supports them, or on a shared thread pool otherwise.
+     * The security context is propagated to the prefetching thread.</p>
+     */
+    @Documented
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Prefetch {}
+
     /**
      * Get the user for whom this clearance was issued.
      * @apiNote This method is named to avoid conflicts with user-defined
@@ -0,0 +1,73 @@
+package io.github.naomimyselfandi.staticsecurity;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+
+/**
+ * A conversion between two fixed types. The type descriptors are resolved
+ * once and reused, and once the conversion service reports that the
+ * conversion is possible, it isn't asked again. The conversion itself is
+ * still performed by the conversion service, which chooses a converter each
+ * time; a conversion which isn't possible is checked again each time, since
+ * converters may be registered later.
+ */
+public final class Conversion {
+
+    private final ConversionService conversionService;
+    private final TypeDescriptor sourceType;
+    private final TypeDescriptor targetType;
+    private volatile boolean possible;
+
+    private Conversion(ConversionService conversionService, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        this.conversionService = conversionService;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+    }
+
+    /**
+     * Create a conversion.
+     *
+     * @param conversionService The conversion service which performs it.
+     * @param sourceType The type of value to convert from.
+     * @param targetType The type of value to convert to.
+     * @return A conversion between the two types.
+     */
+    public static Conversion of(
+            ConversionService conversionService,
+            TypeDescriptor sourceType,
+            TypeDescriptor targetType
+    ) {
+        return new Conversion(conversionService, sourceType, targetType);
+    }
+
+    /**
+     * Check if this conversion is possible.
+     *
+     * @return {@code true} if the conversion service can perform this
+     * conversion, or {@code false} if it can't do so yet.
+     */
+    public boolean isPossible() {
+        // racing threads may both ask the conversion service; that's fine
+        if (!possible && conversionService.canConvert(sourceType, targetType)) {
+            possible = true;
+        }
+        return possible;
+    }
+
+    /**
+     * Convert a value.
+     *
+     * @param source The value to convert, which should be of the source type.
+     * @return The converted value, or {@code null} if the value is
+     * {@code null} or the conversion {@linkplain #isPossible() isn't possible}.
+     */
+    public @Nullable Object convert(@Nullable Object source) {
+        if (source == null || !isPossible()) {
+            return null;
+        } else {
+            return conversionService.convert(source, sourceType, targetType);
+        }
+    }
+
+}
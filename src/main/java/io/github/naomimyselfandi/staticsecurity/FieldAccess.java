@@ -0,0 +1,21 @@
+package io.github.naomimyselfandi.staticsecurity;
+
+import java.lang.annotation.*;
+
+/**
+ * Read the annotated source type's property values directly from its fields.
+ * By default, property values are obtained by calling the source object's
+ * getters. If a type's getters simply return fields, reading those fields
+ * directly is faster, and values of primitive fields can be stored in
+ * clearances without being boxed.
+ *
+ * <p>A property is read from a field if the source type (or one of its
+ * superclasses) declares a non-static field with the property's name and the
+ * getter's return type; otherwise, the getter is called as usual. Since
+ * getters are bypassed, this annotation should only be used on types whose
+ * getters have no logic of their own.</p>
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FieldAccess {}
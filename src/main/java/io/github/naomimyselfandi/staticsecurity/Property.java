@@ -3,6 +3,7 @@ package io.github.naomimyselfandi.staticsecurity;
 import org.springframework.core.convert.TypeDescriptor;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 public interface Property {
 
@@ -14,4 +15,8 @@ public interface Property {
 
     boolean required();
 
+    default List<String> path() {
+        return List.of(name());
+    }
+
 }
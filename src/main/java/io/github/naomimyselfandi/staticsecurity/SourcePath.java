@@ -0,0 +1,30 @@
+package io.github.naomimyselfandi.staticsecurity;
+
+import java.lang.annotation.*;
+
+/**
+ * Read the annotated clearance property from a nested location in the source
+ * object. By default, a property's value is the source object's property of
+ * the same name. This annotation specifies a path to follow instead, so that
+ * values can be taken from nested objects without declaring intermediate
+ * types to hold them.
+ *
+ * <p>Paths are written as JSON pointers, such as {@code /document/id}. Each
+ * segment is the name of a property, a map key, a JSON object field, or an
+ * index into a list or JSON array, depending on the value reached so far.
+ * As in JSON pointers, {@code ~1} and {@code ~0} stand for {@code /} and
+ * {@code ~} within a segment. If any value along the path is missing, the
+ * property is missing.</p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SourcePath {
+
+    /**
+     * Specify the path to the property's value.
+     * @return The path, as a JSON pointer.
+     */
+    String value();
+
+}
@@ -22,6 +22,11 @@ record StaticSecurity(ClassLoader classLoader) implements ImportSelector {
             result.add("io.github.naomimyselfandi.staticsecurity.web.StaticSecurityWebConfiguration");
         } catch (ClassNotFoundException ignored) {
         }
+        try {
+            classLoader.loadClass("io.micrometer.core.instrument.MeterRegistry");
+            result.add("io.github.naomimyselfandi.staticsecurity.micrometer.StaticSecurityMicrometerConfiguration");
+        } catch (ClassNotFoundException ignored) {
+        }
         return result.toArray(String[]::new);
     }
 
@@ -1,5 +1,8 @@
 package io.github.naomimyselfandi.staticsecurity;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * The core of the static security library. Using this service directly is rare,
  * unusual, as higher-level abstractions are available which provide additional
@@ -16,6 +19,33 @@ public interface StaticSecurityService {
      */
     boolean canCreate(Class<?> source, Class<?> type);
 
+    /**
+     * Get the properties of a clearance type.
+     *
+     * @implSpec The default implementation returns an empty list, meaning the
+     * properties aren't known. Callers then fall back to approaches that don't
+     * need them, such as deserializing JSON through a tree.
+     *
+     * @param type The clearance type.
+     * @return The clearance type's properties.
+     */
+    default List<Property> getProperties(Class<? extends Clearance> type) {
+        return List.of();
+    }
+
+    /**
+     * Get statistics for the library's internal metadata caches. These may be
+     * used to size caches and to spot metadata being recomputed. If Micrometer
+     * is available, the same statistics are also published as meters.
+     *
+     * @implSpec The default implementation returns an empty map.
+     *
+     * @return A snapshot of each cache's statistics, keyed by cache name.
+     */
+    default Map<String, CacheStatistics> getCacheStatistics() {
+        return Map.of();
+    }
+
     /**
      * Create a clearance object from some source object.
      *
@@ -34,6 +64,27 @@ public interface StaticSecurityService {
      */
     <S, C extends Clearance> PendingClearance<C> create(S source, Class<C> type);
 
+    /**
+     * Create clearance objects from several source objects at once. The
+     * clearances are issued together, so {@linkplain Clearance.Batch batched}
+     * helpers can load their results for all of them in a single call.
+     *
+     * @implSpec The default implementation calls {@link #create(Object, Class)}
+     * for each source object, so nothing is batched.
+     *
+     * @param sources The source objects.
+     * @param type The type of clearance to create.
+     * @return A {@link PendingClearance} object for each source object, in the
+     * same order as the source objects.
+     * @param <S> The type of the source objects.
+     * @param <C> The type of clearance to create.
+     * @throws ClearanceSourceException if any source object is not appropriate
+     * for the clearance type.
+     */
+    default <S, C extends Clearance> List<PendingClearance<C>> createAll(List<? extends S> sources, Class<C> type) {
+        return sources.stream().map(source -> create(source, type)).toList();
+    }
+
     /**
      * Create a factory for some type of clearance.
      *
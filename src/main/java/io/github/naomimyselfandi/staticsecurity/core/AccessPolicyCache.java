@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
-class AccessPolicyCache extends Cache<Class<?>, List<? extends AccessPolicy<?>>> {
+class AccessPolicyCache extends ClassCache<List<? extends AccessPolicy<?>>> {
 
     private final List<AccessPolicy<?>> accessPolicies;
 
@@ -28,7 +28,12 @@ record AutowireCandidateResolverImpl(
             var staticSecurityService = beanFactory.getBean(StaticSecurityService.class);
             // if the bean is required, always try to create it so there's a clear error message
             if (staticSecurityService.canCreate(sourceType, targetType) || isRequired(descriptor)) {
-                return staticSecurityService.createFactory(sourceType, targetType);
+                var factory = staticSecurityService.createFactory(sourceType, targetType);
+                var warmUp = beanFactory.getBeanProvider(ClearanceWarmUp.class).getIfAvailable();
+                if (warmUp != null) {
+                    warmUp.register(sourceType, targetType);
+                }
+                return factory;
             }
         }
         return null;
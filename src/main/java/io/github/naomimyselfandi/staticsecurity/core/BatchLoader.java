@@ -0,0 +1,72 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+final class BatchLoader {
+
+    private static final MethodType LOADER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private final Method method;
+    private final MethodHandle handle;
+
+    private BatchLoader(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    static @Nullable BatchLoader resolve(Class<?> type, Method helper) {
+        var annotation = helper.getAnnotation(Clearance.Batch.class);
+        if (annotation == null) {
+            return null;
+        } else if (helper.getParameterCount() != 0) {
+            throw new IllegalStateException("%s can't be batched because it has parameters.".formatted(helper));
+        }
+        var method = Arrays
+                .stream(type.getMethods())
+                .filter(it -> it.getName().equals(annotation.value()))
+                .filter(BatchLoader::isLoader)
+                .findFirst()
+                .orElseThrow(() -> {
+                    var fmt = "%s names batch loader '%s', but %s has no default direct helper by that name "
+                            + "which accepts a List.";
+                    return new IllegalStateException(fmt.formatted(helper, annotation.value(), type.getName()));
+                });
+        try {
+            var handle = MethodHandles
+                    .privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflect(method)
+                    .asType(LOADER_TYPE);
+            return new BatchLoader(method, handle);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("%s isn't accessible.".formatted(method), e);
+        }
+    }
+
+    List<?> load(Object self, List<?> batch) throws Throwable {
+        var result = handle.invokeExact(self, (Object) batch);
+        if (result instanceof List<?> list && list.size() == batch.size()) {
+            return list;
+        } else {
+            var fmt = "%s must return a List with one result for each of the %d clearances in the batch.";
+            throw new IllegalStateException(fmt.formatted(method, batch.size()));
+        }
+    }
+
+    private static boolean isLoader(Method method) {
+        var helper = method.getAnnotation(Clearance.Helper.class);
+        return method.isDefault()
+                && helper != null
+                && helper.value() == Clearance.Helper.Type.DIRECT
+                && method.getParameterCount() == 1
+                && method.getParameterTypes()[0].isAssignableFrom(List.class);
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.AccessPolicy;
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.PendingClearance;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+record BatchPendingClearance<C extends Clearance>(
+        ClearanceBatch batch,
+        int index,
+        List<? extends AccessPolicy<? super C>> policies,
+        Prefetch prefetch
+) implements PendingClearance<C> {
+
+    @Override
+    public @Nullable C get(boolean nullable) {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        @SuppressWarnings("unchecked")
+        var clearance = (C) batch.get(index, auth);
+        C result = null;
+        try {
+            result = PendingClearanceImpl.check(clearance, prefetch, policies, nullable);
+            return result;
+        } finally {
+            if (result == null) {
+                batch.deny(index, clearance);
+            }
+        }
+    }
+
+}
@@ -1,6 +1,5 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
@@ -11,11 +10,15 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
-class BeanCache extends Cache<ResolvableType, Object> {
+class BeanCache extends KeyedCache<ResolvableType, Object> {
 
     final ApplicationContext applicationContext;
 
+    BeanCache(ApplicationContext applicationContext, CachePolicy cachePolicy) {
+        super(cachePolicy);
+        this.applicationContext = applicationContext;
+    }
+
     @Override
     Object calculate(ResolvableType resolvableType) {
         var type = resolvableType.toClass();
@@ -0,0 +1,36 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.BeansException;
+import org.springframework.core.ResolvableType;
+
+final class BeanReference {
+
+    private final Cache<ResolvableType, Object> beanCache;
+    private final ResolvableType type;
+    private volatile @Nullable Object bean;
+
+    BeanReference(Cache<ResolvableType, Object> beanCache, ResolvableType type) {
+        this.beanCache = beanCache;
+        this.type = type;
+        try {
+            this.bean = beanCache.get(type);
+        } catch (BeansException ignored) {
+            // leave it for the first call, so the failure surfaces where the helper is used
+        }
+    }
+
+    ResolvableType type() {
+        return type;
+    }
+
+    Object get() {
+        var bean = this.bean;
+        if (bean == null) {
+            bean = beanCache.get(type);
+            this.bean = bean;
+        }
+        return bean;
+    }
+
+}
@@ -1,13 +1,46 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
-import org.springframework.util.ConcurrentLruCache;
+import io.github.naomimyselfandi.staticsecurity.CacheStatistics;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
 
 abstract class Cache<T, R> {
 
-    private final ConcurrentLruCache<T, R> cache = new ConcurrentLruCache<>(256, this::calculate);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder computeTime = new LongAdder();
+
+    final R get(T input) {
+        requests.increment();
+        return lookup(input);
+    }
+
+    String name() {
+        return StringUtils.uncapitalize(getClass().getSimpleName());
+    }
+
+    CacheStatistics statistics() {
+        var misses = this.misses.sum();
+        var hits = Math.max(0, requests.sum() - misses);
+        return new CacheStatistics(hits, misses, evictions(), Duration.ofNanos(computeTime.sum()));
+    }
+
+    abstract R lookup(T input);
+
+    long evictions() {
+        return 0;
+    }
 
-    R get(T input) {
-        return cache.get(input);
+    final R compute(T input) {
+        misses.increment();
+        var start = System.nanoTime();
+        try {
+            return calculate(input);
+        } finally {
+            computeTime.add(System.nanoTime() - start);
+        }
     }
 
     abstract R calculate(T input);
@@ -0,0 +1,57 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.springframework.util.ConcurrentLruCache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+record CachePolicy(int capacity, Eviction eviction) {
+
+    static final CachePolicy DEFAULT = new CachePolicy(256, Eviction.CLOCK);
+
+    enum Eviction { LRU, CLOCK, NONE }
+
+    interface Store<T, R> {
+
+        R get(T key);
+
+        long evictions();
+
+    }
+
+    private record LruStore<T, R>(ConcurrentLruCache<T, R> cache, LongAdder generated) implements Store<T, R> {
+
+        @Override
+        public R get(T key) {
+            return cache.get(key);
+        }
+
+        @Override
+        public long evictions() {
+            // the LRU cache doesn't report evictions, so count whatever it generated but no longer holds
+            return Math.max(0, generated.sum() - cache.size());
+        }
+
+    }
+
+    CachePolicy {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cache capacity must not be negative.");
+        }
+    }
+
+    <T, R> Store<T, R> create(Function<T, R> generator) {
+        return switch (eviction) {
+            case LRU -> {
+                var generated = new LongAdder();
+                yield new LruStore<>(new ConcurrentLruCache<>(capacity, key -> {
+                    generated.increment();
+                    return generator.apply(key);
+                }), generated);
+            }
+            case CLOCK -> new ClockCache<>(capacity, generator);
+            case NONE -> new ClockCache<>(Integer.MAX_VALUE, generator);
+        };
+    }
+
+}
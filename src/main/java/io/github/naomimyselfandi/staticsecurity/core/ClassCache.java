@@ -0,0 +1,24 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+abstract class ClassCache<R> extends Cache<Class<?>, R> {
+
+    // values may reference the application context, so they're held here rather than by their classes; a ClassValue
+    // would keep this cache (and the context) reachable for as long as the classes are loaded
+    private final Map<Class<?>, R> cache = new ConcurrentHashMap<>();
+
+    @Override
+    R lookup(Class<?> input) {
+        var value = cache.get(input);
+        if (value == null) {
+            // computed outside the map, since calculations may look up other classes; racing threads may each do it
+            value = compute(input);
+            var existing = cache.putIfAbsent(input, value);
+            return existing == null ? value : existing;
+        }
+        return value;
+    }
+
+}
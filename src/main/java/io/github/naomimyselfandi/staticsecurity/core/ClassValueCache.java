@@ -0,0 +1,21 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+abstract class ClassValueCache<R> extends Cache<Class<?>, R> {
+
+    // values live as long as their classes do, and reads don't hash or lock; they mustn't reference the application
+    // context (or this cache), since that would keep it reachable for as long as the classes are loaded
+    private final ClassValue<R> cache = new ClassValue<>() {
+
+        @Override
+        protected R computeValue(Class<?> type) {
+            return compute(type);
+        }
+
+    };
+
+    @Override
+    R lookup(Class<?> input) {
+        return cache.get(input);
+    }
+
+}
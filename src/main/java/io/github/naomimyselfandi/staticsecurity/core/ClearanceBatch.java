@@ -0,0 +1,91 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.security.core.Authentication;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class ClearanceBatch {
+
+    record Member(ClearanceBatch batch, int index) {
+
+        @Nullable Object load(BatchLoader loader, Object self) throws Throwable {
+            return batch.load(loader, self, index);
+        }
+
+    }
+
+    private final ClearanceModel model;
+    private final List<ClearanceData> data;
+    private final HelperCache results = new HelperCache();
+    private final Set<Integer> denied = ConcurrentHashMap.newKeySet();
+    private @Nullable Authentication auth;
+    private volatile @Nullable List<Clearance> clearances;
+
+    ClearanceBatch(ClearanceModel model, List<ClearanceData> data) {
+        this.model = model;
+        this.data = List.copyOf(data);
+    }
+
+    synchronized Clearance get(int index, Authentication auth) {
+        var clearances = this.clearances;
+        if (clearances == null) {
+            var created = new ArrayList<Clearance>(data.size());
+            for (var i = 0; i < data.size(); i++) {
+                created.add(model.create(auth, data.get(i), new Member(this, i)));
+            }
+            clearances = List.copyOf(created);
+            this.clearances = clearances;
+            this.auth = auth;
+        }
+        if (Objects.equals(this.auth, auth)) {
+            return clearances.get(index);
+        } else {
+            return model.create(auth, data.get(index)); // a different user can't share this batch's results
+        }
+    }
+
+    void deny(int index, Clearance clearance) {
+        var clearances = this.clearances;
+        if (clearances != null && clearances.get(index) == clearance) {
+            denied.add(index);
+        }
+    }
+
+    private @Nullable Object load(BatchLoader loader, Object self, int index) throws Throwable {
+        if (!denied.contains(index)) {
+            var results = (Map<?, ?>) Objects.requireNonNull(this.results.get(loader, () -> loadAll(loader, self)));
+            if (results.containsKey(index)) {
+                return results.get(index);
+            }
+        }
+        // nobody will see a denied member, so it shouldn't cause or share the others' load
+        return loader.load(self, List.of(self)).get(0);
+    }
+
+    private Map<Integer, Object> loadAll(BatchLoader loader, Object self) throws Throwable {
+        var clearances = Objects.requireNonNull(this.clearances);
+        var indices = new ArrayList<Integer>(clearances.size());
+        var members = new ArrayList<Clearance>(clearances.size());
+        for (var i = 0; i < clearances.size(); i++) {
+            if (!denied.contains(i)) {
+                indices.add(i);
+                members.add(clearances.get(i));
+            }
+        }
+        var loaded = loader.load(self, members);
+        var results = new HashMap<Integer, Object>();
+        for (var i = 0; i < indices.size(); i++) {
+            results.put(indices.get(i), loaded.get(i));
+        }
+        return results;
+    }
+
+}
@@ -0,0 +1,251 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.security.core.Authentication;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+
+final class ClearanceClassGenerator implements Opcodes {
+
+    private static final String SUPERCLASS = Type.getInternalName(GeneratedClearance.class);
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String CONSTRUCTOR = Type.getMethodDescriptor(
+            Type.VOID_TYPE,
+            Type.getType(Object.class),
+            Type.getType(Authentication.class),
+            Type.getType(Map.class),
+            Type.getType(Object.class));
+    private static final String VALUE = "(I)Ljava/lang/Object;";
+    private static final String CACHED = "(I[Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String BEAN = "(I)Ljava/lang/Object;";
+    private static final String UNSUPPORTED = "(I)Ljava/lang/RuntimeException;";
+
+    private ClearanceClassGenerator() {}
+
+    /**
+     * Define an implementation of a clearance type. The implementation is
+     * defined as a hidden class in the clearance type's package, so it has the
+     * same access to other types as the clearance type itself.
+     *
+     * @param type The clearance type.
+     * @param properties The clearance type's properties. Each property is
+     * stored in a field, and the index of each property in this list is passed
+     * to {@link GeneratedClearance#__value__(int)} during construction.
+     * @param methods The clearance type's other generated methods. The index
+     * of each method in this list is passed to the {@link GeneratedClearance}
+     * method which implements it.
+     * @return A lookup for the defined class, or {@code null} if the clearance
+     * type refers to types that aren't accessible from its own package.
+     */
+    static MethodHandles.@Nullable Lookup generate(
+            Class<?> type,
+            List<Property> properties,
+            List<Method> methods
+    ) throws IllegalAccessException {
+        var lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        for (var property : properties) {
+            if (!isAccessible(lookup, property.method().getReturnType())) {
+                return null;
+            }
+        }
+        for (var method : methods) {
+            if (!isAccessible(lookup, method.getReturnType())) {
+                return null;
+            }
+        }
+        var bytes = new ClearanceClassGenerator().write(type, properties, methods);
+        return lookup.defineHiddenClass(bytes, true);
+    }
+
+    private static boolean isAccessible(MethodHandles.Lookup lookup, Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        try {
+            lookup.accessClass(type);
+            return true;
+        } catch (IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    private final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+
+        @Override
+        protected String getCommonSuperClass(String type1, String type2) {
+            return OBJECT; // our branches only ever merge unrelated locals, so this is always safe
+        }
+
+    };
+
+    private byte[] write(Class<?> type, List<Property> properties, List<Method> methods) {
+        var name = Type.getInternalName(type) + "$$Clearance";
+        var iface = Type.getInternalName(type);
+        writer.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, null, SUPERCLASS, new String[]{iface});
+        writeConstructor(name, properties);
+        for (var i = 0; i < properties.size(); i++) {
+            var method = properties.get(i).method();
+            if (!Modifier.isStatic(method.getModifiers())) {
+                writeProperty(name, iface, "p" + i, method);
+            }
+        }
+        for (var i = 0; i < methods.size(); i++) {
+            writeMethod(i, methods.get(i));
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private void writeConstructor(String name, List<Property> properties) {
+        var mv = writer.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitVarInsn(ALOAD, 4);
+        mv.visitMethodInsn(INVOKESPECIAL, SUPERCLASS, "<init>", CONSTRUCTOR, false);
+        for (var i = 0; i < properties.size(); i++) {
+            var method = properties.get(i).method();
+            var fieldType = fieldType(method);
+            writer.visitField(ACC_PRIVATE | ACC_FINAL, "p" + i, fieldType.getDescriptor(), null, null).visitEnd();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitLdcInsn(i);
+            var accessor = accessor(fieldType);
+            if (accessor != null) {
+                var descriptor = Type.getMethodDescriptor(fieldType, Type.INT_TYPE);
+                mv.visitMethodInsn(INVOKEVIRTUAL, SUPERCLASS, accessor, descriptor, false);
+            } else {
+                mv.visitMethodInsn(INVOKEVIRTUAL, SUPERCLASS, "__value__", VALUE, false);
+                unbox(mv, fieldType);
+            }
+            mv.visitFieldInsn(PUTFIELD, name, "p" + i, fieldType.getDescriptor());
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void writeProperty(String name, String iface, String field, Method method) {
+        var fieldType = fieldType(method);
+        var returnType = Type.getReturnType(method);
+        var mv = writer.visitMethod(ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, name, field, fieldType.getDescriptor());
+        if (method.isDefault()) {
+            var fallback = new Label();
+            mv.visitVarInsn(ASTORE, 1);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitJumpInsn(IFNULL, fallback);
+            mv.visitVarInsn(ALOAD, 1);
+            unbox(mv, returnType);
+            mv.visitInsn(returnType.getOpcode(IRETURN));
+            mv.visitLabel(fallback);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, iface, method.getName(), Type.getMethodDescriptor(method), true);
+        }
+        mv.visitInsn(returnType.getOpcode(IRETURN));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void writeMethod(int index, Method method) {
+        var descriptor = Type.getMethodDescriptor(method);
+        var mv = writer.visitMethod(ACC_PUBLIC, method.getName(), descriptor, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitLdcInsn(index);
+        var helper = method.getAnnotation(Clearance.Helper.class);
+        var kind = helper == null ? null : helper.value();
+        if (kind == Clearance.Helper.Type.CACHED) {
+            var parameters = Type.getArgumentTypes(method);
+            mv.visitLdcInsn(parameters.length);
+            mv.visitTypeInsn(ANEWARRAY, OBJECT);
+            var slot = 1;
+            for (var i = 0; i < parameters.length; i++) {
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(i);
+                mv.visitVarInsn(parameters[i].getOpcode(ILOAD), slot);
+                box(mv, parameters[i]);
+                mv.visitInsn(AASTORE);
+                slot += parameters[i].getSize();
+            }
+            mv.visitMethodInsn(INVOKEVIRTUAL, SUPERCLASS, "__cached__", CACHED, false);
+            writeReturn(mv, Type.getReturnType(method));
+        } else if (kind == Clearance.Helper.Type.SPRING) {
+            mv.visitMethodInsn(INVOKEVIRTUAL, SUPERCLASS, "__bean__", BEAN, false);
+            writeReturn(mv, Type.getReturnType(method));
+        } else {
+            mv.visitMethodInsn(INVOKEVIRTUAL, SUPERCLASS, "__unsupported__", UNSUPPORTED, false);
+            mv.visitInsn(ATHROW);
+        }
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void writeReturn(MethodVisitor mv, Type returnType) {
+        if (returnType.getSort() == Type.VOID) {
+            mv.visitInsn(POP);
+        } else {
+            unbox(mv, returnType);
+        }
+        mv.visitInsn(returnType.getOpcode(IRETURN));
+    }
+
+    private static Type fieldType(Method method) {
+        var type = Type.getReturnType(method);
+        return method.isDefault() ? boxed(type) : type;
+    }
+
+    private static @Nullable String accessor(Type type) {
+        return switch (type.getSort()) {
+            case Type.BOOLEAN, Type.INT, Type.LONG, Type.DOUBLE -> "__%s__".formatted(type.getClassName());
+            default -> null;
+        };
+    }
+
+    private static Type boxed(Type type) {
+        return switch (type.getSort()) {
+            case Type.BOOLEAN -> Type.getType(Boolean.class);
+            case Type.CHAR -> Type.getType(Character.class);
+            case Type.BYTE -> Type.getType(Byte.class);
+            case Type.SHORT -> Type.getType(Short.class);
+            case Type.INT -> Type.getType(Integer.class);
+            case Type.FLOAT -> Type.getType(Float.class);
+            case Type.LONG -> Type.getType(Long.class);
+            case Type.DOUBLE -> Type.getType(Double.class);
+            default -> type;
+        };
+    }
+
+    private static void box(MethodVisitor mv, Type type) {
+        var boxed = boxed(type);
+        if (boxed != type) {
+            var descriptor = Type.getMethodDescriptor(boxed, type);
+            mv.visitMethodInsn(INVOKESTATIC, boxed.getInternalName(), "valueOf", descriptor, false);
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, Type type) {
+        var boxed = boxed(type);
+        mv.visitTypeInsn(CHECKCAST, boxed.getInternalName());
+        if (boxed != type) {
+            var descriptor = Type.getMethodDescriptor(type);
+            mv.visitMethodInsn(INVOKEVIRTUAL, boxed.getInternalName(), type.getClassName() + "Value", descriptor, false);
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+final class ClearanceData extends AbstractMap<String, Object> {
+
+    static final Object PACKED = new Object();
+
+    private final ClearanceLayout layout;
+    private final @Nullable Object[] values;
+    private final long @Nullable [] packed;
+    private final int size;
+    private @Nullable Set<Entry<String, Object>> entrySet;
+
+    ClearanceData(ClearanceLayout layout, @Nullable Object[] values) {
+        this(layout, values, null);
+    }
+
+    ClearanceData(ClearanceLayout layout, @Nullable Object[] values, long @Nullable [] packed) {
+        // Values are kept in whatever form they arrive in. Only slots marked
+        // PACKED, which a data source filled without boxing, live in packed[].
+        var size = 0;
+        for (var value : values) {
+            if (value != null) {
+                size++;
+            }
+        }
+        this.layout = layout;
+        this.values = values;
+        this.packed = packed;
+        this.size = size;
+    }
+
+    static ClearanceData of(ClearanceLayout layout, Map<String, ?> data) {
+        var values = new Object[layout.size()];
+        data.forEach((name, value) -> {
+            var slot = layout.slotOf(name);
+            if (slot >= 0) {
+                values[slot] = value;
+            }
+        });
+        return new ClearanceData(layout, values);
+    }
+
+    ClearanceLayout layout() {
+        return layout;
+    }
+
+    ClearanceData withLayout(ClearanceLayout layout) {
+        return this.layout.isCompatibleWith(layout) ? this : of(layout, this);
+    }
+
+    @Nullable Object get(int slot) {
+        if (slot < 0) {
+            return null;
+        } else {
+            var value = values[slot];
+            return value == PACKED ? box(slot) : value;
+        }
+    }
+
+    boolean isPacked(int slot) {
+        return slot >= 0 && values[slot] == PACKED;
+    }
+
+    long getPacked(int slot) {
+        return Objects.requireNonNull(packed)[slot];
+    }
+
+    @Override
+    public @Nullable Object get(Object key) {
+        return get(layout.slotOf(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof ClearanceData that && layout.isCompatibleWith(that.layout)) {
+            for (var i = 0; i < values.length; i++) {
+                if (!isSameValue(i, that)) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return super.equals(other);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        var entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+
+                        private int next = advance(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (next >= values.length) {
+                                throw new NoSuchElementException();
+                            }
+                            var entry = Map.entry(layout.name(next), Objects.requireNonNull(get(next)));
+                            next = advance(next + 1);
+                            return entry;
+                        }
+
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+            };
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    private Object box(int slot) {
+        // A packed value is only boxed if something asks for it, such as a
+        // proxy or the map view. The box then replaces the marker, so later
+        // reads don't box it again; racing threads may each create one.
+        var box = Objects.requireNonNull(layout.packing(slot)).unpack(Objects.requireNonNull(packed)[slot]);
+        values[slot] = box;
+        return box;
+    }
+
+    private boolean isSameValue(int slot, ClearanceData that) {
+        var value = values[slot];
+        var other = that.values[slot];
+        if (value == PACKED && other == PACKED) {
+            return getPacked(slot) == that.getPacked(slot);
+        } else if (value == PACKED) {
+            return isSamePacked(slot, other, getPacked(slot));
+        } else if (other == PACKED) {
+            return isSamePacked(slot, value, that.getPacked(slot));
+        } else {
+            return Objects.equals(value, other);
+        }
+    }
+
+    private boolean isSamePacked(int slot, @Nullable Object value, long packed) {
+        var packing = Objects.requireNonNull(layout.packing(slot));
+        return value != null && packing.canPack(value) && packing.pack(value) == packed;
+    }
+
+    private int advance(int slot) {
+        while (slot < values.length && values[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+
+}
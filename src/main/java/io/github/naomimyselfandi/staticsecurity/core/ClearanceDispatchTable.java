@@ -0,0 +1,137 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+final class ClearanceDispatchTable {
+
+    enum Kind {EQUALS, HASH_CODE, TO_STRING, PROPERTY, DEFAULT_PROPERTY, AUTH, DATA, DIRECT, CACHED, SPRING, UNSUPPORTED}
+
+    record Entry(
+            Kind kind,
+            int slot,
+            @Nullable Object fallback,
+            @Nullable BeanReference bean,
+            @Nullable MethodHandle defaultMethod,
+            @Nullable SharedHelper shared,
+            @Nullable BatchLoader batchLoader
+    ) {
+
+        Entry(
+                Kind kind,
+                int slot,
+                @Nullable Object fallback,
+                @Nullable BeanReference bean,
+                @Nullable MethodHandle defaultMethod
+        ) {
+            this(kind, slot, fallback, bean, defaultMethod, null, null);
+        }
+
+    }
+
+    private static final MethodType DEFAULT_METHOD_TYPE = MethodType.methodType(
+            Object.class,
+            Object.class,
+            Object[].class);
+
+    private final Class<?> type;
+    private final ClearanceLayout layout;
+    private final Cache<ResolvableType, Object> beanCache;
+    private final SharedHelperResolver sharedHelperResolver;
+    private final Map<Method, Entry> entries;
+    private final boolean cachedHelpers;
+
+    ClearanceDispatchTable(
+            Class<?> type,
+            ClearanceLayout layout,
+            Cache<ResolvableType, Object> beanCache,
+            SharedHelperResolver sharedHelperResolver
+    ) {
+        this.type = type;
+        this.layout = layout;
+        this.beanCache = beanCache;
+        this.sharedHelperResolver = sharedHelperResolver;
+        var entries = new HashMap<Method, Entry>();
+        for (var method : Object.class.getMethods()) {
+            entries.put(method, entry(method));
+        }
+        for (var method : type.getMethods()) {
+            entries.put(method, entry(method));
+        }
+        this.entries = Map.copyOf(entries);
+        this.cachedHelpers = entries.values().stream().anyMatch(it -> it.kind() == Kind.CACHED);
+    }
+
+    ClearanceLayout layout() {
+        return layout;
+    }
+
+    boolean hasCachedHelpers() {
+        return cachedHelpers;
+    }
+
+    Entry get(Method method) {
+        var entry = entries.get(method);
+        return entry == null ? entry(method) : entry;
+    }
+
+    private Entry entry(Method method) {
+        if (ReflectionUtils.isEqualsMethod(method)) {
+            return new Entry(Kind.EQUALS, -1, null, null, null);
+        } else if (ReflectionUtils.isHashCodeMethod(method)) {
+            return new Entry(Kind.HASH_CODE, -1, null, null, null);
+        } else if (ReflectionUtils.isToStringMethod(method)) {
+            return new Entry(Kind.TO_STRING, -1, null, null, null);
+        } else if (ClearanceInvocationHandler.isProperty(method)) {
+            var kind = method.isDefault() ? Kind.DEFAULT_PROPERTY : Kind.PROPERTY;
+            var fallback = ClearanceInvocationHandler.DEFAULTS.get(method.getReturnType());
+            var slot = layout.slotOf(ClearanceInvocationHandler.name(method));
+            return new Entry(kind, slot, fallback, null, defaultMethod(method));
+        } else if ("__auth__".equals(method.getName()) && method.getParameterCount() == 0) {
+            return new Entry(Kind.AUTH, -1, null, null, null);
+        } else if ("__data__".equals(method.getName()) && method.getParameterCount() == 0) {
+            return new Entry(Kind.DATA, -1, null, null, null);
+        } else if (method.isAnnotationPresent(Clearance.Helper.class)) {
+            return switch (method.getAnnotation(Clearance.Helper.class).value()) {
+                case DIRECT -> new Entry(Kind.DIRECT, -1, null, null, defaultMethod(method));
+                case CACHED -> {
+                    var shared = sharedHelperResolver.resolve(method, layout);
+                    var batchLoader = BatchLoader.resolve(type, method);
+                    yield new Entry(Kind.CACHED, -1, null, null, defaultMethod(method), shared, batchLoader);
+                }
+                case SPRING -> {
+                    var bean = new BeanReference(beanCache, ResolvableType.forMethodReturnType(method));
+                    yield new Entry(Kind.SPRING, -1, null, bean, null);
+                }
+            };
+        } else {
+            return new Entry(Kind.UNSUPPORTED, -1, null, null, null);
+        }
+    }
+
+    private static @Nullable MethodHandle defaultMethod(Method method) {
+        if (!method.isDefault()) {
+            return null;
+        }
+        var declaringClass = method.getDeclaringClass();
+        try {
+            return MethodHandles
+                    .privateLookupIn(declaringClass, MethodHandles.lookup())
+                    .unreflectSpecial(method, declaringClass)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(DEFAULT_METHOD_TYPE);
+        } catch (IllegalAccessException e) {
+            return null; // the declaring class isn't open to us; fall back to InvocationHandler.invokeDefault
+        }
+    }
+
+}
@@ -1,12 +1,12 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
 import io.github.naomimyselfandi.staticsecurity.Clearance;
-import org.springframework.core.ResolvableType;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.security.core.Authentication;
-import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.*;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -29,6 +29,14 @@ class ClearanceInvocationHandler implements InvocationHandler {
         return matcher.matches() ? (matcher.group(1).toLowerCase() + matcher.group(2)) : name;
     }
 
+    static int valueHash(Class<?> type, @Nullable Authentication auth, Map<String, Object> data) {
+        return Objects.hash(type, principal(auth), data);
+    }
+
+    static @Nullable Object principal(@Nullable Authentication auth) {
+        return auth == null ? null : auth.getPrincipal();
+    }
+
     static boolean isProperty(Method method) {
         return (method.getParameterCount() == 0)
                 && (method.getReturnType() != void.class)
@@ -37,49 +45,70 @@ class ClearanceInvocationHandler implements InvocationHandler {
                 && !method.isAnnotationPresent(Clearance.Helper.class);
     }
 
+    private static final Object[] NO_ARGS = {};
+
     private record Pair(Method method, List<Object> args) {}
 
-    private final Map<Object, Object> cache = new HashMap<>();
+    private final @Nullable HelperCache cache;
 
     final Class<?> type;
     final Authentication auth;
-    final Map<String, Object> data;
-    final Cache<ResolvableType, Object> beanCache;
+    final ClearanceDispatchTable dispatchTable;
+    final ClearanceData data;
+    final boolean valueEquality;
+    final ClearanceBatch.@Nullable Member member;
+
+    private final int hash;
 
     ClearanceInvocationHandler(
             Class<?> type,
+            ClearanceDispatchTable dispatchTable,
             Authentication auth,
-            Map<String, Object> data,
-            Cache<ResolvableType, Object> beanCache
+            ClearanceData data,
+            boolean valueEquality,
+            ClearanceBatch.@Nullable Member member
     ) {
         this.type = type;
-        this.data = Map.copyOf(data);
+        this.dispatchTable = dispatchTable;
+        this.data = data.withLayout(dispatchTable.layout());
         this.auth = auth;
-        this.beanCache = beanCache;
+        this.valueEquality = valueEquality;
+        this.member = member;
+        this.cache = dispatchTable.hasCachedHelpers() ? new HelperCache() : null;
+        this.hash = valueEquality ? valueHash(type, auth, this.data) : 0;
     }
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        if (ReflectionUtils.isEqualsMethod(method)) {
-            return proxy == args[0];
-        } else if (ReflectionUtils.isHashCodeMethod(method)) {
-            return System.identityHashCode(proxy);
-        } else if (ReflectionUtils.isToStringMethod(method)) {
-            return invokeToString();
-        } else if (isProperty(method)) {
-            return invokeProperty(proxy, method, args);
-        } else if ("__auth__".equals(method.getName()) && method.getParameterCount() == 0) {
-            return auth;
-        } else if ("__data__".equals(method.getName()) && method.getParameterCount() == 0) {
-            return data;
-        } else if (method.isAnnotationPresent(Clearance.Helper.class)) {
-            return switch (method.getAnnotation(Clearance.Helper.class).value()) {
-                case DIRECT -> InvocationHandler.invokeDefault(proxy, method, args);
-                case CACHED -> invokeCachedHelper(proxy, method, args);
-                case SPRING -> beanCache.get(ResolvableType.forMethodReturnType(method));
-            };
+        var entry = dispatchTable.get(method);
+        return switch (entry.kind()) {
+            case EQUALS -> invokeEquals(proxy, args[0]);
+            case HASH_CODE -> valueEquality ? hash : System.identityHashCode(proxy);
+            case TO_STRING -> invokeToString();
+            case PROPERTY -> invokeProperty(entry);
+            case DEFAULT_PROPERTY -> invokeDefaultProperty(proxy, method, args, entry);
+            case AUTH -> auth;
+            case DATA -> data;
+            case DIRECT -> invokeDefault(proxy, method, args, entry);
+            case CACHED -> invokeCachedHelper(proxy, method, args, entry);
+            case SPRING -> Objects.requireNonNull(entry.bean()).get();
+            case UNSUPPORTED -> throw new IllegalStateException("Unsupported method %s.".formatted(method));
+        };
+    }
+
+    private boolean invokeEquals(Object proxy, @Nullable Object other) {
+        if (proxy == other) {
+            return true;
+        } else if (!valueEquality || other == null || !Proxy.isProxyClass(other.getClass())) {
+            return false;
+        } else if (Proxy.getInvocationHandler(other) instanceof ClearanceInvocationHandler that) {
+            return that.valueEquality
+                    && hash == that.hash
+                    && type == that.type
+                    && Objects.equals(principal(auth), principal(that.auth))
+                    && data.equals(that.data);
         } else {
-            throw new IllegalStateException("Unsupported method %s.".formatted(method));
+            return false;
         }
     }
 
@@ -88,25 +117,58 @@ class ClearanceInvocationHandler implements InvocationHandler {
         return "%s(%s)".formatted(type.getSimpleName(), args);
     }
 
-    private Object invokeProperty(Object proxy, Method method, Object[] args) throws Throwable {
-        var value = data.get(name(method));
-        if (value != null) {
-            return value;
-        } else if (method.isDefault()) {
-            return InvocationHandler.invokeDefault(proxy, method, args);
+    private Object invokeProperty(ClearanceDispatchTable.Entry entry) {
+        var value = data.get(entry.slot());
+        return value == null ? entry.fallback() : value;
+    }
+
+    private Object invokeDefaultProperty(
+            Object proxy,
+            Method method,
+            Object[] args,
+            ClearanceDispatchTable.Entry entry
+    ) throws Throwable {
+        var value = data.get(entry.slot());
+        return value == null ? invokeDefault(proxy, method, args, entry) : value;
+    }
+
+    private Object invokeCachedHelper(
+            Object proxy,
+            Method method,
+            Object[] args,
+            ClearanceDispatchTable.Entry entry
+    ) throws Throwable {
+        var key = method.getParameterCount() == 0 ? method : new Pair(method, Arrays.asList(args.clone()));
+        HelperCache.Computation computation;
+        var batchLoader = entry.batchLoader();
+        var member = this.member;
+        if (batchLoader != null && member != null) {
+            computation = () -> member.load(batchLoader, proxy);
         } else {
-            return DEFAULTS.get(method.getReturnType());
+            computation = () -> invokeDefault(proxy, method, args, entry);
+        }
+        var shared = entry.shared();
+        if (shared == null) {
+            return Objects.requireNonNull(cache).get(key, computation);
+        } else {
+            var local = computation;
+            return Objects.requireNonNull(cache).get(key, () -> shared.get(auth, data, args, local));
         }
     }
 
-    private Object invokeCachedHelper(Object proxy, Method method, Object[] args) throws Throwable {
-        var key = method.getParameterCount() == 0 ? method : new Pair(method, Arrays.asList(args.clone()));
-        var value = cache.get(key);
-        if (value == null) {
-            value = InvocationHandler.invokeDefault(proxy, method, args);
-            cache.put(key, value);
+    private static Object invokeDefault(
+            Object proxy,
+            Method method,
+            Object[] args,
+            ClearanceDispatchTable.Entry entry
+    ) throws Throwable {
+        var defaultMethod = entry.defaultMethod();
+        if (defaultMethod != null) {
+            var arguments = args == null ? NO_ARGS : args;
+            return defaultMethod.invokeExact(proxy, arguments);
+        } else {
+            return InvocationHandler.invokeDefault(proxy, method, args);
         }
-        return value;
     }
 
 }
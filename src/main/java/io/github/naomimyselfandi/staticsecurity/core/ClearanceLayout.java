@@ -0,0 +1,204 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+final class ClearanceLayout {
+
+    enum Packing {
+
+        INT(int.class) {
+            @Override
+            long pack(Object value) {
+                return (Integer) value;
+            }
+
+            @Override
+            Object unpack(long packed) {
+                return (int) packed;
+            }
+        },
+
+        LONG(long.class) {
+            @Override
+            long pack(Object value) {
+                return (Long) value;
+            }
+
+            @Override
+            Object unpack(long packed) {
+                return packed;
+            }
+        },
+
+        BOOLEAN(boolean.class) {
+            @Override
+            long pack(Object value) {
+                return ((Boolean) value) ? 1 : 0;
+            }
+
+            @Override
+            Object unpack(long packed) {
+                return packed != 0;
+            }
+        },
+
+        DOUBLE(double.class) {
+            @Override
+            long pack(Object value) {
+                return Double.doubleToLongBits((Double) value);
+            }
+
+            @Override
+            Object unpack(long packed) {
+                return Double.longBitsToDouble(packed);
+            }
+        },
+
+        OPTIONAL_INT(OptionalInt.class) {
+            @Override
+            boolean canPack(Object value) {
+                return value instanceof OptionalInt optional && optional.isPresent();
+            }
+
+            @Override
+            long pack(Object value) {
+                return ((OptionalInt) value).getAsInt();
+            }
+
+            @Override
+            Object unpack(long packed) {
+                return OptionalInt.of((int) packed);
+            }
+        },
+
+        OPTIONAL_LONG(OptionalLong.class) {
+            @Override
+            boolean canPack(Object value) {
+                return value instanceof OptionalLong optional && optional.isPresent();
+            }
+
+            @Override
+            long pack(Object value) {
+                return ((OptionalLong) value).getAsLong();
+            }
+
+            @Override
+            Object unpack(long packed) {
+                return OptionalLong.of(packed);
+            }
+        },
+
+        OPTIONAL_DOUBLE(OptionalDouble.class) {
+            @Override
+            boolean canPack(Object value) {
+                return value instanceof OptionalDouble optional && optional.isPresent();
+            }
+
+            @Override
+            long pack(Object value) {
+                return Double.doubleToLongBits(((OptionalDouble) value).getAsDouble());
+            }
+
+            @Override
+            Object unpack(long packed) {
+                return OptionalDouble.of(Double.longBitsToDouble(packed));
+            }
+        };
+
+        private static final Map<Class<?>, Packing> BY_TYPE = Arrays
+                .stream(values())
+                .collect(Collectors.toUnmodifiableMap(it -> it.type, Function.identity()));
+
+        private final Class<?> type;
+
+        Packing(Class<?> type) {
+            this.type = type;
+        }
+
+        static @Nullable Packing of(Property property) {
+            var type = property.type();
+            return type == null ? null : BY_TYPE.get(type.getType());
+        }
+
+        boolean canPack(Object value) {
+            return ClassUtils.resolvePrimitiveIfNecessary(type).isInstance(value);
+        }
+
+        abstract long pack(Object value);
+
+        abstract Object unpack(long packed);
+
+    }
+
+    private final List<Property> properties;
+    private final String[] names;
+    private final @Nullable Packing[] packings;
+    private final int[] slots;
+    private final Map<String, Integer> indices;
+    private final boolean packed;
+
+    ClearanceLayout(List<Property> properties) {
+        var indices = new HashMap<String, Integer>();
+        var packings = new ArrayList<@Nullable Packing>();
+        var slots = new int[properties.size()];
+        for (var i = 0; i < slots.length; i++) {
+            var property = properties.get(i);
+            var packing = Packing.of(property);
+            var slot = indices.computeIfAbsent(property.name(), it -> indices.size());
+            if (slot == packings.size()) {
+                packings.add(packing);
+            } else if (packings.get(slot) != packing) {
+                packings.set(slot, null); // properties disagree on the type; store whatever we're given
+            }
+            slots[i] = slot;
+        }
+        var names = new String[indices.size()];
+        indices.forEach((name, slot) -> names[slot] = name);
+        this.properties = List.copyOf(properties);
+        this.names = names;
+        this.packings = packings.toArray(Packing[]::new);
+        this.slots = slots;
+        this.indices = Map.copyOf(indices);
+        this.packed = packings.stream().anyMatch(Objects::nonNull);
+    }
+
+    List<Property> properties() {
+        return properties;
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    String name(int slot) {
+        return names[slot];
+    }
+
+    @Nullable Packing packing(int slot) {
+        return packings[slot];
+    }
+
+    boolean isPacked() {
+        return packed;
+    }
+
+    int slot(int propertyIndex) {
+        return slots[propertyIndex];
+    }
+
+    int slotOf(Object name) {
+        var slot = indices.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    boolean isCompatibleWith(ClearanceLayout other) {
+        return this == other || (Arrays.equals(names, other.names) && Arrays.equals(packings, other.packings));
+    }
+
+}
@@ -0,0 +1,20 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+class ClearanceLayoutCache extends ClassValueCache<ClearanceLayout> {
+
+    private final Cache<Class<?>, List<Property>> propertyCache;
+
+    @Override
+    ClearanceLayout calculate(Class<?> input) {
+        return new ClearanceLayout(propertyCache.get(input));
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.security.core.Authentication;
+
+@FunctionalInterface
+interface ClearanceModel {
+
+    default Clearance create(Authentication auth, ClearanceData data) {
+        return create(auth, data, null);
+    }
+
+    Clearance create(Authentication auth, ClearanceData data, ClearanceBatch.@Nullable Member member);
+
+}
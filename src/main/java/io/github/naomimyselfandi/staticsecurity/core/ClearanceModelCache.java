@@ -0,0 +1,54 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+
+@Component
+class ClearanceModelCache extends ClassCache<ClearanceModel> {
+
+    enum Implementation {PROXY, GENERATED}
+
+    private final Cache<Class<?>, ClearanceLayout> clearanceLayoutCache;
+    private final Cache<ResolvableType, Object> beanCache;
+    private final GeneratedClearanceIndex generatedClearanceIndex;
+    private final SharedHelperResolver sharedHelperResolver;
+    private final Implementation implementation;
+    private final boolean valueEquality;
+
+    ClearanceModelCache(
+            Cache<Class<?>, ClearanceLayout> clearanceLayoutCache,
+            Cache<ResolvableType, Object> beanCache,
+            GeneratedClearanceIndex generatedClearanceIndex,
+            SharedHelperResolver sharedHelperResolver,
+            @Value("${staticsecurity.implementation:PROXY}") Implementation implementation,
+            @Value("${staticsecurity.value-equality:false}") boolean valueEquality
+    ) {
+        this.clearanceLayoutCache = clearanceLayoutCache;
+        this.beanCache = beanCache;
+        this.generatedClearanceIndex = generatedClearanceIndex;
+        this.sharedHelperResolver = sharedHelperResolver;
+        this.implementation = implementation;
+        this.valueEquality = valueEquality;
+    }
+
+    @Override
+    ClearanceModel calculate(Class<?> input) {
+        var layout = clearanceLayoutCache.get(input);
+        var annotation = input.getAnnotation(Clearance.ValueEquality.class);
+        var valueEquality = annotation == null ? this.valueEquality : annotation.value();
+        var generated = generatedClearanceIndex.find(input);
+        if (generated != null) {
+            return GeneratedClearanceModel.load(input, generated, layout, beanCache, sharedHelperResolver, valueEquality);
+        }
+        if (implementation == Implementation.GENERATED) {
+            return GeneratedClearanceModel
+                    .generate(input, layout, beanCache, sharedHelperResolver, valueEquality)
+                    .orElseGet(() -> new ProxyClearanceModel(input, layout, beanCache, sharedHelperResolver, valueEquality));
+        } else {
+            return new ProxyClearanceModel(input, layout, beanCache, sharedHelperResolver, valueEquality);
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.AccessPolicy;
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Component
+class ClearanceWarmUp {
+
+    private static final Log log = LogFactory.getLog(ClearanceWarmUp.class);
+
+    private record Task(String name, Runnable action) {
+
+        Result run() {
+            var start = System.nanoTime();
+            try {
+                action.run();
+                return new Result(name, System.nanoTime() - start, null);
+            } catch (RuntimeException | LinkageError e) {
+                return new Result(name, System.nanoTime() - start, e);
+            }
+        }
+
+    }
+
+    record Result(String name, long nanos, @Nullable Throwable failure) {}
+
+    private final Cache<Class<?>, List<Property>> propertyCache;
+    private final Cache<Class<?>, ClearanceLayout> clearanceLayoutCache;
+    private final Cache<Class<?>, ClearanceModel> clearanceModelCache;
+    private final Cache<Class<?>, List<? extends AccessPolicy<?>>> accessPolicyCache;
+    private final Cache<Class<?>, Prefetch> prefetchCache;
+    private final Cache<DataSourceKey, Optional<? extends DataSource<?>>> dataSourceCache;
+    private final ResourceLoader resourceLoader;
+    private final boolean enabled;
+    private final List<String> packages;
+    private final Set<DataSourceKey> injectionPoints = ConcurrentHashMap.newKeySet();
+
+    ClearanceWarmUp(
+            Cache<Class<?>, List<Property>> propertyCache,
+            Cache<Class<?>, ClearanceLayout> clearanceLayoutCache,
+            Cache<Class<?>, ClearanceModel> clearanceModelCache,
+            Cache<Class<?>, List<? extends AccessPolicy<?>>> accessPolicyCache,
+            Cache<Class<?>, Prefetch> prefetchCache,
+            Cache<DataSourceKey, Optional<? extends DataSource<?>>> dataSourceCache,
+            ResourceLoader resourceLoader,
+            @Value("${staticsecurity.warm-up.enabled:true}") boolean enabled,
+            @Value("${staticsecurity.warm-up.packages:}") String[] packages
+    ) {
+        this.propertyCache = propertyCache;
+        this.clearanceLayoutCache = clearanceLayoutCache;
+        this.clearanceModelCache = clearanceModelCache;
+        this.accessPolicyCache = accessPolicyCache;
+        this.prefetchCache = prefetchCache;
+        this.dataSourceCache = dataSourceCache;
+        this.resourceLoader = resourceLoader;
+        this.enabled = enabled;
+        this.packages = List.of(packages);
+    }
+
+    void register(Class<?> source, Class<? extends Clearance> type) {
+        injectionPoints.add(new DataSourceKey(source, type));
+    }
+
+    List<Result> run() {
+        if (!enabled) {
+            return List.of();
+        }
+        var start = System.nanoTime();
+        var types = new LinkedHashSet<Class<?>>(scan());
+        var injectionPoints = List.copyOf(this.injectionPoints);
+        injectionPoints.forEach(injectionPoint -> types.add(injectionPoint.type()));
+        var results = Stream
+                .concat(types.stream().map(this::warmUp), injectionPoints.stream().map(this::warmUp))
+                .toList()
+                .parallelStream()
+                .map(Task::run)
+                .toList();
+        report(types.size(), injectionPoints.size(), results, System.nanoTime() - start);
+        return results;
+    }
+
+    private Task warmUp(Class<?> type) {
+        return new Task(type.getName(), () -> {
+            propertyCache.get(type);
+            clearanceLayoutCache.get(type);
+            clearanceModelCache.get(type);
+            accessPolicyCache.get(type);
+            prefetchCache.get(type);
+        });
+    }
+
+    private Task warmUp(DataSourceKey injectionPoint) {
+        var name = "%s from %s".formatted(injectionPoint.type().getName(), injectionPoint.source().getName());
+        return new Task(name, () -> dataSourceCache.get(injectionPoint));
+    }
+
+    private List<Class<?>> scan() {
+        var scanner = new ClassPathScanningCandidateComponentProvider(false) {
+
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                var metadata = beanDefinition.getMetadata();
+                return metadata.isInterface() && metadata.isIndependent();
+            }
+
+        };
+        scanner.setResourceLoader(resourceLoader);
+        scanner.addIncludeFilter(new AssignableTypeFilter(Clearance.class));
+        var result = new ArrayList<Class<?>>();
+        for (var basePackage : packages) {
+            for (var candidate : scanner.findCandidateComponents(basePackage)) {
+                var name = Objects.requireNonNull(candidate.getBeanClassName());
+                result.add(ClassUtils.resolveClassName(name, resourceLoader.getClassLoader()));
+            }
+        }
+        return result;
+    }
+
+    private static void report(int types, int injectionPoints, List<Result> results, long nanos) {
+        var failures = results.stream().filter(result -> result.failure() != null).toList();
+        if (log.isInfoEnabled()) {
+            log.info("Warmed up %d clearance types and %d clearance factories in %d ms (%d failed).".formatted(
+                    types,
+                    injectionPoints,
+                    Duration.ofNanos(nanos).toMillis(),
+                    failures.size()));
+        }
+        if (log.isDebugEnabled()) {
+            results.stream()
+                    .sorted(Comparator.comparingLong(Result::nanos).reversed())
+                    .forEach(result -> log.debug("%s took %.3f ms.".formatted(result.name(), result.nanos() / 1e6)));
+        }
+        for (var failure : failures) {
+            log.warn("Could not warm up %s.".formatted(failure.name()), failure.failure());
+        }
+    }
+
+}
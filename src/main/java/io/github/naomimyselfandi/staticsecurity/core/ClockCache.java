@@ -0,0 +1,86 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+final class ClockCache<T, R> implements CachePolicy.Store<T, R> {
+
+    private static final class Node<R> {
+
+        final R value;
+
+        // written without synchronization; a lost update only costs an entry its second chance
+        boolean referenced;
+
+        Node(R value) {
+            this.value = value;
+        }
+
+    }
+
+    private final int capacity;
+    private final Function<T, R> generator;
+    private final ConcurrentHashMap<T, Node<R>> nodes = new ConcurrentHashMap<>();
+    private final Queue<T> clock = new ArrayDeque<>();
+    private final LongAdder evictions = new LongAdder();
+
+    ClockCache(int capacity, Function<T, R> generator) {
+        this.capacity = capacity;
+        this.generator = generator;
+    }
+
+    @Override
+    public R get(T key) {
+        var node = nodes.get(key);
+        if (node != null) {
+            // only write when the bit changes, so hot entries' cache lines stay shared between cores
+            if (!node.referenced) {
+                node.referenced = true;
+            }
+            return node.value;
+        }
+        var value = generator.apply(key);
+        if (capacity == 0) {
+            return value;
+        }
+        var existing = nodes.putIfAbsent(key, new Node<>(value));
+        if (existing != null) {
+            return existing.value;
+        }
+        if (capacity < Integer.MAX_VALUE) {
+            admit(key);
+        }
+        return value;
+    }
+
+    @Override
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    private void admit(T key) {
+        synchronized (clock) {
+            var chances = clock.size();
+            while (clock.size() >= capacity) {
+                var candidate = clock.remove();
+                var node = nodes.get(candidate);
+                if (node != null && node.referenced && chances-- > 0) {
+                    node.referenced = false;
+                    clock.add(candidate);
+                } else {
+                    nodes.remove(candidate);
+                    evictions.increment();
+                }
+            }
+            clock.add(key);
+        }
+    }
+
+}
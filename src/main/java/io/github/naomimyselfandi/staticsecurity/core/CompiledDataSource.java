@@ -0,0 +1,103 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+record CompiledDataSource<S>(
+        ClearanceLayout layout,
+        List<Step<S>> steps,
+        List<Function<Object, @Nullable Object>> unwraps
+) implements DataSource<S> {
+
+    @FunctionalInterface
+    interface Step<S> {
+        @Nullable Object extract(S source, Unwrapped unwrapped);
+    }
+
+    record PackedStep<S>(ClearanceLayout.Packing packing, ToLongFunction<S> getter) implements Step<S> {
+
+        @Override
+        public Object extract(S source, Unwrapped unwrapped) {
+            return packing.unpack(getter.applyAsLong(source));
+        }
+
+    }
+
+    static final class Unwrapped {
+
+        private static final Object PENDING = new Object();
+
+        private final Object source;
+        private final List<Function<Object, @Nullable Object>> unwraps;
+        private final @Nullable Object[] values;
+
+        Unwrapped(Object source, List<Function<Object, @Nullable Object>> unwraps) {
+            this.source = source;
+            this.unwraps = unwraps;
+            this.values = new Object[unwraps.size()];
+            Arrays.fill(values, PENDING);
+        }
+
+        @Nullable Object get(int index) {
+            var value = values[index];
+            if (value == PENDING) {
+                value = unwraps.get(index).apply(source);
+                values[index] = value;
+            }
+            return value;
+        }
+
+    }
+
+    CompiledDataSource {
+        steps = List.copyOf(steps);
+        unwraps = List.copyOf(unwraps);
+    }
+
+    CompiledDataSource(ClearanceLayout layout, List<Step<S>> steps) {
+        this(layout, steps, List.of());
+    }
+
+    static <S> CompiledDataSource<S> compile(ReflectivePropertyProvider<S> provider, ClearanceLayout layout) {
+        var steps = layout.properties().stream().map(provider::compile).toList();
+        return new CompiledDataSource<>(layout, steps, provider.unwraps());
+    }
+
+    @Override
+    public Result getData(S source) {
+        var properties = layout.properties();
+        var values = new Object[layout.size()];
+        var packed = layout.isPacked() ? new long[values.length] : null;
+        var unwrapped = new Unwrapped(source, unwraps);
+        for (var i = 0; i < properties.size(); i++) {
+            var step = steps.get(i);
+            var slot = layout.slot(i);
+            if (packed != null
+                    && step instanceof PackedStep<S> packedStep
+                    && packedStep.packing() == layout.packing(slot)) {
+                packed[slot] = packedStep.getter().applyAsLong(source);
+                values[slot] = ClearanceData.PACKED;
+                continue;
+            }
+            var extracted = step.extract(source, unwrapped);
+            if (extracted != null) {
+                values[slot] = extracted;
+            } else if (properties.get(i).required()) {
+                return failure(properties.get(i));
+            }
+        }
+        var result = new ClearanceData(layout, values, packed);
+        return () -> result;
+    }
+
+    private static Result failure(Property property) {
+        var message = "Required property '%s' is missing or invalid.".formatted(property.name());
+        return new Failure(message);
+    }
+
+}
@@ -2,13 +2,11 @@ package io.github.naomimyselfandi.staticsecurity.core;
 
 import io.github.naomimyselfandi.staticsecurity.ClearanceSourceException;
 
-import java.util.Map;
-
 interface DataSource<S> {
 
     @FunctionalInterface
     interface Result {
-        Map<String, Object> get();
+        ClearanceData get();
     }
 
     Result getData(S source);
@@ -16,7 +14,7 @@ interface DataSource<S> {
     record Failure(String reason) implements Result {
 
         @Override
-        public Map<String, Object> get() {
+        public ClearanceData get() {
             throw new ClearanceSourceException(reason);
         }
 
@@ -5,16 +5,32 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 class DataSourceCache extends Cache<DataSourceKey, Optional<? extends DataSource<?>>> {
 
-    private final Cache<Class<?>, List<Property>> propertyCache;
+    private final Cache<Class<?>, ClearanceLayout> clearanceLayoutCache;
     private final Cache<Class<?>, PropertyProvider<?>> propertyProviderCache;
 
+    // data sources reference their providers, and so the application context; see ClassCache
+    private final Map<DataSourceKey, Optional<? extends DataSource<?>>> cache = new ConcurrentHashMap<>();
+
+    @Override
+    Optional<? extends DataSource<?>> lookup(DataSourceKey input) {
+        var value = cache.get(input);
+        if (value == null) {
+            value = compute(input);
+            var existing = cache.putIfAbsent(input, value);
+            return existing == null ? value : existing;
+        }
+        return value;
+    }
+
     @Override
     Optional<? extends DataSource<?>> calculate(DataSourceKey input) {
         return calculate(input.source(), input.type());
@@ -24,13 +40,18 @@ class DataSourceCache extends Cache<DataSourceKey, Optional<? extends DataSource
         @SuppressWarnings("unchecked")
         var provider = (PropertyProvider<S>) propertyProviderCache.get(source);
         var result = Stream.<DataSource<S>>builder();
-        var properties = propertyCache.get(type);
+        var layout = clearanceLayoutCache.get(type);
+        var properties = layout.properties();
         var requiredProperties = properties.stream().filter(Property::required).toList();
         if (requiredProperties.stream().allMatch(provider::canExtract)) {
-            result.add(new ExtractingDataSource<>(provider, properties));
+            if (provider instanceof ReflectivePropertyProvider<S> reflectiveProvider) {
+                result.add(CompiledDataSource.compile(reflectiveProvider, layout));
+            } else {
+                result.add(new ExtractingDataSource<>(provider, layout));
+            }
         }
         if (requiredProperties.size() == 1 && provider.canFlatten(requiredProperties.get(0))) {
-            result.add(new FlatteningDataSource<>(provider, requiredProperties.get(0)));
+            result.add(new FlatteningDataSource<>(provider, requiredProperties.get(0), layout));
         }
         return result.build().reduce(DataSourcePair::new);
     }
@@ -1,25 +1,24 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
-import io.github.naomimyselfandi.staticsecurity.Property;
 import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
 
-import java.util.HashMap;
-import java.util.List;
-
-record ExtractingDataSource<S>(PropertyProvider<S> provider, List<Property> properties) implements DataSource<S> {
+record ExtractingDataSource<S>(PropertyProvider<S> provider, ClearanceLayout layout) implements DataSource<S> {
 
     @Override
     public Result getData(S source) {
-        var result = new HashMap<String, Object>(properties.size());
-        for (var property : properties) {
+        var properties = layout.properties();
+        var values = new Object[layout.size()];
+        for (var i = 0; i < properties.size(); i++) {
+            var property = properties.get(i);
             var extracted = provider.extract(source, property);
             if (extracted != null) {
-                result.put(property.name(), extracted);
+                values[layout.slot(i)] = extracted;
             } else if (property.required()) {
                 var message = "Required property '%s' is missing or invalid.".formatted(property.name());
                 return new Failure(message);
             }
         }
+        var result = new ClearanceData(layout, values);
         return () -> result;
     }
 
@@ -0,0 +1,129 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+class FieldPropertyProvider<T> extends ReflectivePropertyProvider<T> {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    final Map<Method, VarHandle> fields;
+
+    FieldPropertyProvider(
+            Class<T> sourceType,
+            List<Property> properties,
+            ConversionService conversionService,
+            Cache<Class<?>, PropertyProvider<?>> propertyProviderCache
+    ) {
+        super(sourceType, properties, conversionService, propertyProviderCache);
+        this.fields = fields(sourceType, properties);
+    }
+
+    @Override
+    @Nullable Object read(T source, Method method) {
+        var field = fields.get(method);
+        return field == null ? super.read(source, method) : field.get(source);
+    }
+
+    @Override
+    Function<Object, @Nullable Object> getter(Method method) {
+        var field = fields.get(method);
+        if (field == null) {
+            return super.getter(method);
+        } else {
+            var handle = field.toMethodHandle(VarHandle.AccessMode.GET).asType(GETTER_TYPE);
+            return source -> get(handle, source);
+        }
+    }
+
+    @Override
+    CompiledDataSource.Step<T> compile(Property property) {
+        var sourceProperty = isNested(property) ? null : properties.get(property.path().get(0));
+        var field = sourceProperty == null ? null : fields.get(sourceProperty.method());
+        if (field == null || field.varType() != property.type().getType()) {
+            return super.compile(property);
+        }
+        var packing = ClearanceLayout.Packing.of(property);
+        if (packing == null) {
+            return super.compile(property);
+        }
+        var handle = field.toMethodHandle(VarHandle.AccessMode.GET);
+        return switch (packing) {
+            case INT -> {
+                var getter = handle.asType(MethodType.methodType(int.class, Object.class));
+                yield new CompiledDataSource.PackedStep<>(packing, source -> getInt(getter, source));
+            }
+            case LONG -> {
+                var getter = handle.asType(MethodType.methodType(long.class, Object.class));
+                yield new CompiledDataSource.PackedStep<>(packing, source -> getLong(getter, source));
+            }
+            case BOOLEAN -> {
+                var getter = handle.asType(MethodType.methodType(boolean.class, Object.class));
+                yield new CompiledDataSource.PackedStep<>(packing, source -> getBoolean(getter, source) ? 1 : 0);
+            }
+            case DOUBLE -> {
+                var getter = handle.asType(MethodType.methodType(double.class, Object.class));
+                yield new CompiledDataSource.PackedStep<>(packing, source -> getDouble(getter, source));
+            }
+            default -> super.compile(property);
+        };
+    }
+
+    @SneakyThrows
+    private static @Nullable Object get(MethodHandle handle, Object source) {
+        return (Object) handle.invokeExact(source);
+    }
+
+    @SneakyThrows
+    private static long getInt(MethodHandle handle, Object source) {
+        return (int) handle.invokeExact(source);
+    }
+
+    @SneakyThrows
+    private static long getLong(MethodHandle handle, Object source) {
+        return (long) handle.invokeExact(source);
+    }
+
+    @SneakyThrows
+    private static boolean getBoolean(MethodHandle handle, Object source) {
+        return (boolean) handle.invokeExact(source);
+    }
+
+    @SneakyThrows
+    private static long getDouble(MethodHandle handle, Object source) {
+        return Double.doubleToLongBits((double) handle.invokeExact(source));
+    }
+
+    private static Map<Method, VarHandle> fields(Class<?> type, List<Property> properties) {
+        var result = new HashMap<Method, VarHandle>();
+        for (var property : properties) {
+            var method = property.method();
+            var field = ReflectionUtils.findField(type, property.name(), method.getReturnType());
+            if (field != null && !Modifier.isStatic(field.getModifiers())) {
+                try {
+                    var lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                    result.put(method, lookup.unreflectVarHandle(field));
+                } catch (IllegalAccessException ignored) {
+                    // the field isn't accessible to us; fall back to the getter
+                }
+            }
+        }
+        return Map.copyOf(result);
+    }
+
+}
@@ -3,16 +3,21 @@ package io.github.naomimyselfandi.staticsecurity.core;
 import io.github.naomimyselfandi.staticsecurity.Property;
 import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
 
-import java.util.Map;
-
-record FlatteningDataSource<S>(PropertyProvider<S> provider, Property property) implements DataSource<S> {
+record FlatteningDataSource<S>(
+        PropertyProvider<S> provider,
+        Property property,
+        ClearanceLayout layout
+) implements DataSource<S> {
 
     @Override
     public Result getData(S source) {
         var name = property.name();
         var flattened = provider.flatten(source, property);
         if (flattened != null) {
-            return () -> Map.of(name, flattened);
+            var values = new Object[layout.size()];
+            values[layout.slotOf(name)] = flattened;
+            var result = new ClearanceData(layout, values);
+            return () -> result;
         } else {
             return new Failure("Required property '%s' is missing or invalid.".formatted(name));
         }
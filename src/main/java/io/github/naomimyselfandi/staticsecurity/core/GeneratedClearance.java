@@ -0,0 +1,158 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import org.springframework.security.core.Authentication;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * The base class of generated clearance implementations.
+ *
+ * @apiNote This class is an implementation detail. It is only public because
+ * generated classes are defined alongside their clearance types, which may be
+ * in any package.
+ */
+public abstract class GeneratedClearance implements Clearance {
+
+    private record Key(int index, List<Object> args) {}
+
+    private final @Nullable HelperCache cache;
+
+    private final GeneratedClearanceModel model;
+    private final Authentication auth;
+    private final ClearanceData data;
+    private final int hash;
+
+    private final ClearanceBatch.@Nullable Member member;
+
+    /**
+     * Initialize a generated clearance.
+     *
+     * @param model The clearance type's model. This is declared as an
+     * {@code Object} so generated source code can refer to this constructor.
+     * @param auth The user for whom this clearance was issued.
+     * @param data This clearance's values. This is declared as a {@code Map}
+     * for the same reason, but is always laid out by the model.
+     * @param member The batch this clearance was created in, if any. This is
+     * declared as an {@code Object} for the same reason.
+     */
+    protected GeneratedClearance(
+            Object model,
+            Authentication auth,
+            Map<String, Object> data,
+            @Nullable Object member
+    ) {
+        this.model = (GeneratedClearanceModel) model;
+        this.auth = auth;
+        this.data = (ClearanceData) data;
+        this.member = (ClearanceBatch.Member) member;
+        this.cache = this.model.cachedHelpers ? new HelperCache() : null;
+        this.hash = this.model.valueEquality
+                ? ClearanceInvocationHandler.valueHash(this.model.type, auth, this.data)
+                : 0;
+    }
+
+    @Override
+    public final Authentication __auth__() {
+        return auth;
+    }
+
+    @Override
+    public final @Unmodifiable Map<String, Object> __data__() {
+        return data;
+    }
+
+    @Override
+    public final boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        } else if (model.valueEquality && other instanceof GeneratedClearance that) {
+            var principal = ClearanceInvocationHandler.principal(auth);
+            return that.model.valueEquality
+                    && hash == that.hash
+                    && model.type == that.model.type
+                    && Objects.equals(principal, ClearanceInvocationHandler.principal(that.auth))
+                    && data.equals(that.data);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public final int hashCode() {
+        return model.valueEquality ? hash : System.identityHashCode(this);
+    }
+
+    @Override
+    public final String toString() {
+        var args = data.entrySet().stream().map(Object::toString).sorted().collect(Collectors.joining(", "));
+        return "%s(%s)".formatted(model.type.getSimpleName(), args);
+    }
+
+    protected final Object __value__(int index) {
+        var property = model.layout.properties().get(index);
+        var value = data.get(model.layout.slot(index));
+        if (value != null || property.method().isDefault()) {
+            return value;
+        } else {
+            return ClearanceInvocationHandler.DEFAULTS.get(property.method().getReturnType());
+        }
+    }
+
+    protected final int __int__(int index) {
+        var slot = model.layout.slot(index);
+        return data.isPacked(slot) ? (int) data.getPacked(slot) : (Integer) __value__(index);
+    }
+
+    protected final long __long__(int index) {
+        var slot = model.layout.slot(index);
+        return data.isPacked(slot) ? data.getPacked(slot) : (Long) __value__(index);
+    }
+
+    protected final boolean __boolean__(int index) {
+        var slot = model.layout.slot(index);
+        return data.isPacked(slot) ? data.getPacked(slot) != 0 : (Boolean) __value__(index);
+    }
+
+    protected final double __double__(int index) {
+        var slot = model.layout.slot(index);
+        return data.isPacked(slot) ? Double.longBitsToDouble(data.getPacked(slot)) : (Double) __value__(index);
+    }
+
+    @SneakyThrows
+    protected final Object __cached__(int index, Object[] args) {
+        var cache = this.cache;
+        if (cache == null) {
+            return model.invokeDefault(index, this, args); // not a default method, so this just fails
+        }
+        var key = args.length == 0 ? index : new Key(index, Arrays.asList(args));
+        HelperCache.Computation computation;
+        var batchLoader = model.batchLoader(index);
+        var member = this.member;
+        if (batchLoader != null && member != null) {
+            computation = () -> member.load(batchLoader, this);
+        } else {
+            computation = () -> model.invokeDefault(index, this, args);
+        }
+        var shared = model.sharedHelper(index);
+        if (shared == null) {
+            return cache.get(key, computation);
+        } else {
+            var local = computation;
+            return cache.get(key, () -> shared.get(auth, data, args, local));
+        }
+    }
+
+    protected final Object __bean__(int index) {
+        return model.bean(index);
+    }
+
+    protected final RuntimeException __unsupported__(int index) {
+        return new IllegalStateException("Unsupported method %s.".formatted(model.methods.get(index)));
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+class GeneratedClearanceIndex {
+
+    static final String LOCATION = "META-INF/staticsecurity/clearances";
+
+    private final Map<String, String> implementations;
+
+    GeneratedClearanceIndex(ResourceLoader resourceLoader) {
+        var classLoader = Objects.requireNonNullElseGet(
+                resourceLoader.getClassLoader(),
+                ClassUtils::getDefaultClassLoader);
+        var implementations = new HashMap<String, String>();
+        try {
+            var resources = classLoader == null
+                    ? ClassLoader.getSystemResources(LOCATION)
+                    : classLoader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                var stream = resources.nextElement().openStream();
+                try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                    reader.lines()
+                            .map(String::strip)
+                            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                            .map(line -> line.split("=", 2))
+                            .filter(pair -> pair.length == 2)
+                            .forEach(pair -> implementations.put(pair[0].strip(), pair[1].strip()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.implementations = Map.copyOf(implementations);
+    }
+
+    @Nullable Class<?> find(Class<?> type) {
+        var name = implementations.get(type.getName());
+        if (name == null) {
+            return null;
+        }
+        try {
+            var implementation = Class.forName(name, true, type.getClassLoader());
+            if (type.isAssignableFrom(implementation) && GeneratedClearance.class.isAssignableFrom(implementation)) {
+                return implementation;
+            }
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            // the index is stale; fall back to runtime metadata
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,189 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+final class GeneratedClearanceModel implements ClearanceModel {
+
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(
+            void.class,
+            Object.class,
+            Authentication.class,
+            Map.class,
+            Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = CONSTRUCTOR
+            .changeReturnType(Clearance.class)
+            .changeParameterType(2, ClearanceData.class)
+            .changeParameterType(3, ClearanceBatch.Member.class);
+    private static final MethodType HELPER_TYPE = MethodType.methodType(
+            Object.class,
+            GeneratedClearance.class,
+            Object[].class);
+
+    final Class<?> type;
+    final ClearanceLayout layout;
+    final List<Method> methods;
+    final boolean valueEquality;
+    final boolean cachedHelpers;
+
+    private final MethodHandle constructor;
+    private final List<@Nullable MethodHandle> helpers;
+    private final List<@Nullable BeanReference> beans;
+    private final List<@Nullable SharedHelper> sharedHelpers;
+    private final List<@Nullable BatchLoader> batchLoaders;
+
+    private GeneratedClearanceModel(
+            Class<?> type,
+            ClearanceLayout layout,
+            List<Method> methods,
+            Cache<ResolvableType, Object> beanCache,
+            SharedHelperResolver sharedHelperResolver,
+            boolean valueEquality,
+            MethodHandles.Lookup lookup
+    ) throws ReflectiveOperationException {
+        this.type = type;
+        this.layout = layout;
+        this.methods = methods;
+        this.valueEquality = valueEquality;
+        var implementation = lookup.lookupClass();
+        this.constructor = lookup.findConstructor(implementation, CONSTRUCTOR).asType(CONSTRUCTOR_TYPE);
+        var helpers = new ArrayList<@Nullable MethodHandle>(methods.size());
+        var beans = new ArrayList<@Nullable BeanReference>(methods.size());
+        var sharedHelpers = new ArrayList<@Nullable SharedHelper>(methods.size());
+        var batchLoaders = new ArrayList<@Nullable BatchLoader>(methods.size());
+        for (var method : methods) {
+            var helper = method.getAnnotation(Clearance.Helper.class);
+            var kind = helper == null ? null : helper.value();
+            if (kind == Clearance.Helper.Type.CACHED && method.isDefault()) {
+                var methodType = MethodType.methodType(method.getReturnType(), method.getParameterTypes());
+                helpers.add(lookup
+                        .findSpecial(type, method.getName(), methodType, implementation)
+                        .asSpreader(Object[].class, method.getParameterCount())
+                        .asType(HELPER_TYPE));
+                sharedHelpers.add(sharedHelperResolver.resolve(method, layout));
+                batchLoaders.add(BatchLoader.resolve(type, method));
+            } else {
+                sharedHelpers.add(null);
+                batchLoaders.add(null);
+                helpers.add(null);
+            }
+            if (kind == Clearance.Helper.Type.SPRING) {
+                beans.add(new BeanReference(beanCache, ResolvableType.forMethodReturnType(method)));
+            } else {
+                beans.add(null);
+            }
+        }
+        this.helpers = Collections.unmodifiableList(helpers);
+        this.cachedHelpers = helpers.stream().anyMatch(Objects::nonNull);
+        this.beans = Collections.unmodifiableList(beans);
+        this.sharedHelpers = Collections.unmodifiableList(sharedHelpers);
+        this.batchLoaders = Collections.unmodifiableList(batchLoaders);
+    }
+
+    static Optional<ClearanceModel> generate(
+            Class<?> type,
+            ClearanceLayout layout,
+            Cache<ResolvableType, Object> beanCache,
+            SharedHelperResolver sharedHelperResolver,
+            boolean valueEquality
+    ) {
+        var methods = Arrays
+                .stream(type.getMethods())
+                .filter(GeneratedClearanceModel::isGenerated)
+                .sorted(Comparator.comparing(Method::getName).thenComparing(Method::toGenericString))
+                .toList();
+        try {
+            var lookup = ClearanceClassGenerator.generate(type, layout.properties(), methods);
+            if (lookup != null) {
+                return Optional.of(new GeneratedClearanceModel(type, layout, methods, beanCache, sharedHelperResolver, valueEquality, lookup));
+            }
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // the clearance type isn't visible to us in a way that allows generation; fall back to proxies
+        }
+        return Optional.empty();
+    }
+
+    static ClearanceModel load(
+            Class<?> type,
+            Class<?> implementation,
+            ClearanceLayout layout,
+            Cache<ResolvableType, Object> beanCache,
+            SharedHelperResolver sharedHelperResolver,
+            boolean valueEquality
+    ) {
+        try {
+            var methods = new ArrayList<Method>();
+            for (var row : (Object[][]) implementation.getField("METHODS").get(null)) {
+                var parameterTypes = Arrays.copyOfRange(row, 1, row.length, Class[].class);
+                methods.add(type.getMethod((String) row[0], parameterTypes));
+            }
+            var lookup = MethodHandles.privateLookupIn(implementation, MethodHandles.lookup());
+            return new GeneratedClearanceModel(
+                    type,
+                    layout,
+                    List.copyOf(methods),
+                    beanCache,
+                    sharedHelperResolver,
+                    valueEquality,
+                    lookup);
+        } catch (ReflectiveOperationException e) {
+            var message = "%s is not a valid implementation of %s.".formatted(implementation, type);
+            throw new IllegalStateException(message, e);
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public Clearance create(Authentication auth, ClearanceData data, ClearanceBatch.@Nullable Member member) {
+        return (Clearance) constructor.invokeExact((Object) this, auth, data.withLayout(layout), member);
+    }
+
+    Object invokeDefault(int index, GeneratedClearance clearance, Object[] args) throws Throwable {
+        var helper = helpers.get(index);
+        if (helper != null) {
+            return helper.invokeExact(clearance, args);
+        } else {
+            throw clearance.__unsupported__(index);
+        }
+    }
+
+    @Nullable SharedHelper sharedHelper(int index) {
+        return sharedHelpers.get(index);
+    }
+
+    @Nullable BatchLoader batchLoader(int index) {
+        return batchLoaders.get(index);
+    }
+
+    Object bean(int index) {
+        return Objects.requireNonNull(beans.get(index)).get();
+    }
+
+    private static boolean isGenerated(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || ClearanceInvocationHandler.isProperty(method)) {
+            return false;
+        } else if (ReflectionUtils.isEqualsMethod(method)
+                || ReflectionUtils.isHashCodeMethod(method)
+                || ReflectionUtils.isToStringMethod(method)) {
+            return false;
+        } else if (method.getParameterCount() == 0
+                && ("__auth__".equals(method.getName()) || "__data__".equals(method.getName()))) {
+            return false;
+        } else {
+            var helper = method.getAnnotation(Clearance.Helper.class);
+            return helper == null || helper.value() != Clearance.Helper.Type.DIRECT || !method.isDefault();
+        }
+    }
+
+}
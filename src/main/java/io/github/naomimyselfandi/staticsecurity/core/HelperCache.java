@@ -0,0 +1,46 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class HelperCache {
+
+    @FunctionalInterface
+    interface Computation {
+        @Nullable Object compute() throws Throwable;
+    }
+
+    private final ConcurrentMap<Object, CompletableFuture<@Nullable Object>> results = new ConcurrentHashMap<>();
+
+    @Nullable Object get(Object key, Computation computation) throws Throwable {
+        var result = results.get(key);
+        if (result == null) {
+            var pending = new CompletableFuture<@Nullable Object>();
+            result = results.putIfAbsent(key, pending);
+            if (result == null) {
+                // We won the race, so we run the computation outside the map
+                // and everyone else waits on our future. Failures aren't
+                // cached, so the next caller gets to try again.
+                try {
+                    var value = computation.compute();
+                    pending.complete(value);
+                    return value;
+                } catch (Throwable e) {
+                    results.remove(key, pending);
+                    pending.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+}
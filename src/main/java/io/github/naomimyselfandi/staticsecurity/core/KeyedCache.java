@@ -0,0 +1,21 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+abstract class KeyedCache<T, R> extends Cache<T, R> {
+
+    private final CachePolicy.Store<T, R> cache;
+
+    KeyedCache(CachePolicy policy) {
+        this.cache = policy.create(this::compute);
+    }
+
+    @Override
+    R lookup(T input) {
+        return cache.get(input);
+    }
+
+    @Override
+    long evictions() {
+        return cache.evictions();
+    }
+
+}
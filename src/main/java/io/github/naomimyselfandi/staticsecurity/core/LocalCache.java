@@ -0,0 +1,139 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+
+final class LocalCache extends AbstractValueAdaptingCache {
+
+    private record Entry(CompletableFuture<Object> value, long expiresAt) {}
+
+    private final String name;
+    private final long ttl;
+    private final LongSupplier ticker;
+    private final Map<Object, Entry> entries;
+
+    LocalCache(String name, Duration ttl, int maxSize) {
+        this(name, ttl, maxSize, System::nanoTime);
+    }
+
+    LocalCache(String name, Duration ttl, int maxSize, LongSupplier ticker) {
+        super(true);
+        this.name = name;
+        this.ttl = ttl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return maxSize > 0 && size() > maxSize;
+            }
+
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+
+    @Override
+    protected @Nullable Object lookup(Object key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = live(key);
+        }
+        if (entry == null || !entry.value.isDone() || entry.value.isCompletedExceptionally()) {
+            return null;
+        } else {
+            return entry.value.join();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+        Entry entry;
+        Entry pending = null;
+        synchronized (entries) {
+            entry = live(key);
+            if (entry == null) {
+                pending = new Entry(new CompletableFuture<>(), expiry());
+                entries.put(key, pending);
+            }
+        }
+        if (pending != null) {
+            // Load outside the lock; anyone else asking for this key waits on
+            // our future instead of loading it again.
+            try {
+                var value = valueLoader.call();
+                pending.value.complete(toStoreValue(value));
+                return value;
+            } catch (Throwable e) {
+                synchronized (entries) {
+                    entries.remove(key, pending);
+                }
+                pending.value.completeExceptionally(e);
+                if (e instanceof Error error) {
+                    throw error;
+                } else {
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+            }
+        }
+        try {
+            return (T) fromStoreValue(entry.value.join());
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        var entry = new Entry(CompletableFuture.completedFuture(toStoreValue(value)), expiry());
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private @Nullable Entry live(Object key) {
+        var entry = entries.get(key);
+        if (entry != null && ttl > 0 && ticker.getAsLong() - entry.expiresAt >= 0) {
+            entries.remove(key);
+            return null;
+        } else {
+            return entry;
+        }
+    }
+
+    private long expiry() {
+        return ticker.getAsLong() + ttl;
+    }
+
+}
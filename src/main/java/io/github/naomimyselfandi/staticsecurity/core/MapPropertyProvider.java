@@ -6,6 +6,7 @@ import org.jetbrains.annotations.Nullable;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
 
 @Component
@@ -17,7 +18,26 @@ class MapPropertyProvider extends AbstractProvider<Map<?, ?>> {
 
     @Override
     protected @Nullable Object extractImpl(Map<?, ?> source, Property property) {
-        return source.get(property.name());
+        Object value = source;
+        for (var segment : property.path()) {
+            if (value instanceof Map<?, ?> map) {
+                value = map.get(segment);
+            } else if (value instanceof List<?> list) {
+                value = element(list, segment);
+            } else {
+                return null;
+            }
+        }
+        return value;
+    }
+
+    private static @Nullable Object element(List<?> list, String segment) {
+        try {
+            var index = Integer.parseInt(segment);
+            return index >= 0 && index < list.size() ? list.get(index) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
 }
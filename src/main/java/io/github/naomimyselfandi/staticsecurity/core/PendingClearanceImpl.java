@@ -4,28 +4,49 @@ import io.github.naomimyselfandi.staticsecurity.AccessPolicy;
 import io.github.naomimyselfandi.staticsecurity.Clearance;
 import io.github.naomimyselfandi.staticsecurity.PendingClearance;
 import org.jetbrains.annotations.Nullable;
-import org.springframework.core.ResolvableType;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.lang.reflect.Proxy;
 import java.util.List;
-import java.util.Map;
 
 record PendingClearanceImpl<C extends Clearance>(
-        Class<C> type,
-        Map<String, Object> data,
+        ClearanceModel model,
+        ClearanceData data,
         List<? extends AccessPolicy<? super C>> policies,
-        Cache<ResolvableType, Object> beanCache
+        Prefetch prefetch
 ) implements PendingClearance<C> {
 
-    private static final ClassLoader CLASS_LOADER = PendingClearanceImpl.class.getClassLoader();
-
     @Override
     public @Nullable C get(boolean nullable) {
         var auth = SecurityContextHolder.getContext().getAuthentication();
-        var handler = new ClearanceInvocationHandler(type, auth, data, beanCache);
         @SuppressWarnings("unchecked")
-        var clearance = (C) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{type}, handler);
+        var clearance = (C) model.create(auth, data);
+        return check(clearance, prefetch, policies, nullable);
+    }
+
+    static <C extends Clearance> @Nullable C check(
+            C clearance,
+            Prefetch prefetch,
+            List<? extends AccessPolicy<? super C>> policies,
+            boolean nullable
+    ) {
+        var tasks = prefetch.start(clearance);
+        C result = null;
+        try {
+            result = check(clearance, policies, nullable);
+            return result;
+        } finally {
+            if (result == null) {
+                // nobody will see the clearance, so there's no point finishing its helpers
+                Prefetch.cancel(tasks);
+            }
+        }
+    }
+
+    private static <C extends Clearance> @Nullable C check(
+            C clearance,
+            List<? extends AccessPolicy<? super C>> policies,
+            boolean nullable
+    ) {
         for (var accessPolicy : policies) {
             var denial = accessPolicy.check(clearance);
             if (denial != null) {
@@ -0,0 +1,49 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+record Prefetch(List<Method> methods, Executor executor) {
+
+    Prefetch {
+        methods = List.copyOf(methods);
+        methods.forEach(ReflectionUtils::makeAccessible);
+    }
+
+    List<Future<?>> start(Clearance clearance) {
+        var tasks = new ArrayList<Future<?>>(methods.size());
+        for (var method : methods) {
+            var task = new FutureTask<Void>(() -> run(method, clearance), null);
+            try {
+                executor.execute(task);
+                tasks.add(task);
+            } catch (RejectedExecutionException ignored) {
+                // the helper will run on demand instead
+            }
+        }
+        return tasks;
+    }
+
+    static void cancel(List<? extends Future<?>> tasks) {
+        for (var task : tasks) {
+            task.cancel(true);
+        }
+    }
+
+    private static void run(Method method, Clearance clearance) {
+        try {
+            ReflectionUtils.invokeMethod(method, clearance);
+        } catch (RuntimeException ignored) {
+            // failures aren't memoized, so any policy that needs the result will see the failure itself
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Executor;
+
+@Component
+class PrefetchCache extends ClassCache<Prefetch> implements DisposableBean {
+
+    private static final String THREAD_NAME_PREFIX = "staticsecurity-prefetch-";
+
+    private final Executor executor;
+    private final @Nullable Executor ownExecutor;
+
+    PrefetchCache(@Qualifier("staticSecurityPrefetchExecutor") ObjectProvider<Executor> executors) {
+        var executor = executors.getIfAvailable();
+        this.ownExecutor = executor == null ? defaultExecutor() : null;
+        this.executor = new DelegatingSecurityContextExecutor(executor == null ? ownExecutor : executor);
+    }
+
+    @Override
+    public void destroy() {
+        // a provided executor belongs to whoever provided it
+        if (ownExecutor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        } else if (ownExecutor instanceof ExecutorConfigurationSupport pool) {
+            pool.shutdown();
+        }
+    }
+
+    @Override
+    Prefetch calculate(Class<?> input) {
+        var methods = Arrays
+                .stream(input.getMethods())
+                .filter(method -> method.isAnnotationPresent(Clearance.Prefetch.class))
+                .sorted(Comparator.comparing(Method::getName))
+                .toList();
+        methods.forEach(PrefetchCache::validate);
+        return new Prefetch(methods, executor);
+    }
+
+    private static void validate(Method method) {
+        var helper = method.getAnnotation(Clearance.Helper.class);
+        if (helper == null || helper.value() != Clearance.Helper.Type.CACHED || !method.isDefault()) {
+            var message = "%s can't be prefetched because it isn't a cached helper.".formatted(method);
+            throw new IllegalStateException(message);
+        } else if (method.getParameterCount() != 0) {
+            var message = "%s can't be prefetched because it has parameters.".formatted(method);
+            throw new IllegalStateException(message);
+        }
+    }
+
+    static Executor defaultExecutor() {
+        var executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        try {
+            executor.setVirtualThreads(true);
+            return executor;
+        } catch (UnsupportedOperationException e) {
+            var pool = new ThreadPoolTaskExecutor();
+            pool.setThreadNamePrefix(THREAD_NAME_PREFIX);
+            pool.setDaemon(true);
+            pool.setCorePoolSize(0);
+            pool.setQueueCapacity(0);
+            pool.initialize();
+            return pool;
+        }
+    }
+
+}
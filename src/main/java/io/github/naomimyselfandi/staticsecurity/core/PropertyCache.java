@@ -1,6 +1,8 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
 import io.github.naomimyselfandi.staticsecurity.Property;
+import io.github.naomimyselfandi.staticsecurity.SourcePath;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.stereotype.Component;
@@ -9,10 +11,17 @@ import java.lang.reflect.Method;
 import java.util.*;
 
 @Component
-class PropertyCache extends Cache<Class<?>, List<Property>> {
+@RequiredArgsConstructor
+class PropertyCache extends ClassValueCache<List<Property>> {
+
+    private final GeneratedClearanceIndex generatedClearanceIndex;
 
     @Override
     List<Property> calculate(Class<?> input) {
+        var implementation = generatedClearanceIndex.find(input);
+        if (implementation != null) {
+            return load(input, implementation);
+        }
         return Arrays
                 .stream(input.getMethods())
                 .filter(ClearanceInvocationHandler::isProperty)
@@ -21,13 +30,48 @@ class PropertyCache extends Cache<Class<?>, List<Property>> {
                 .toList();
     }
 
+    private static List<Property> load(Class<?> type, Class<?> implementation) {
+        try {
+            var result = new ArrayList<Property>();
+            for (var row : (Object[][]) implementation.getField("PROPERTIES").get(null)) {
+                var method = type.getMethod((String) row[1]);
+                var name = (String) row[0];
+                result.add(new PropertyImpl(name, typeOf(method), method, (Boolean) row[2], pathOf(method, name)));
+            }
+            return List.copyOf(result);
+        } catch (ReflectiveOperationException e) {
+            var message = "%s is not a valid implementation of %s.".formatted(implementation, type);
+            throw new IllegalStateException(message, e);
+        }
+    }
+
     private static Property create(Method method) {
         var name = ClearanceInvocationHandler.name(method);
-        var resolvableType = ResolvableType.forMethodReturnType(Objects.requireNonNull(method));
-        var type = new TypeDescriptor(resolvableType, null, null);
         var hasImplicitDefault = ClearanceInvocationHandler.DEFAULTS.containsKey(method.getReturnType());
         var hasExplicitDefault = method.isDefault();
-        return new PropertyImpl(name, type, method, !(hasImplicitDefault || hasExplicitDefault));
+        var required = !(hasImplicitDefault || hasExplicitDefault);
+        return new PropertyImpl(name, typeOf(method), method, required, pathOf(method, name));
+    }
+
+    private static List<String> pathOf(Method method, String name) {
+        var annotation = method.getAnnotation(SourcePath.class);
+        if (annotation == null) {
+            return List.of(name);
+        }
+        var pointer = annotation.value();
+        if (pointer.length() < 2 || pointer.charAt(0) != '/') {
+            var message = "%s has an invalid source path '%s'.".formatted(method, pointer);
+            throw new IllegalStateException(message);
+        }
+        return Arrays
+                .stream(pointer.substring(1).split("/", -1))
+                .map(segment -> segment.replace("~1", "/").replace("~0", "~"))
+                .toList();
+    }
+
+    private static TypeDescriptor typeOf(Method method) {
+        var resolvableType = ResolvableType.forMethodReturnType(Objects.requireNonNull(method));
+        return new TypeDescriptor(resolvableType, null, null);
     }
 
 }
@@ -4,5 +4,32 @@ import io.github.naomimyselfandi.staticsecurity.Property;
 import org.springframework.core.convert.TypeDescriptor;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
-record PropertyImpl(String name, TypeDescriptor type, Method method, boolean required) implements Property {}
+record PropertyImpl(
+        String name,
+        TypeDescriptor type,
+        Method method,
+        boolean required,
+        List<String> path
+) implements Property {
+
+    PropertyImpl {
+        path = List.copyOf(path);
+    }
+
+    PropertyImpl(String name, TypeDescriptor type, Method method, boolean required) {
+        this(name, type, method, required, List.of(name));
+    }
+
+    static Property tail(Property property) {
+        var path = property.path();
+        return new PropertyImpl(
+                property.name(),
+                property.type(),
+                property.method(),
+                property.required(),
+                path.subList(1, path.size()));
+    }
+
+}
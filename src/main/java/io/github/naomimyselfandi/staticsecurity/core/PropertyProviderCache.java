@@ -1,5 +1,6 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
+import io.github.naomimyselfandi.staticsecurity.FieldAccess;
 import io.github.naomimyselfandi.staticsecurity.Property;
 import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
 import org.springframework.core.convert.ConversionService;
@@ -12,7 +13,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Component
-class PropertyProviderCache extends Cache<Class<?>, PropertyProvider<?>> {
+class PropertyProviderCache extends ClassCache<PropertyProvider<?>> {
 
     private final Cache<Class<?>, List<Property>> propertyCache;
     private final List<PropertyProvider<?>> propertyProviders;
@@ -42,7 +43,13 @@ class PropertyProviderCache extends Cache<Class<?>, PropertyProvider<?>> {
 
     private ReflectivePropertyProvider<?> makeReflectiveProvider(Class<?> type) {
         var properties = propertyCache.calculate(type);
-        return new ReflectivePropertyProvider<>(type, properties, conversionService, this);
+        if (type.isAnnotationPresent(FieldAccess.class)) {
+            return new FieldPropertyProvider<>(type, properties, conversionService, this);
+        } else if (type.isRecord()) {
+            return new RecordPropertyProvider<>(type, properties, conversionService, this);
+        } else {
+            return new ReflectivePropertyProvider<>(type, properties, conversionService, this);
+        }
     }
 
     private static int depth(Class<?> type) {
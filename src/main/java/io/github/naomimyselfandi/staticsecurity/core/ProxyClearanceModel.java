@@ -0,0 +1,34 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Proxy;
+
+record ProxyClearanceModel(
+        Class<?> type,
+        ClearanceDispatchTable dispatchTable,
+        boolean valueEquality
+) implements ClearanceModel {
+
+    private static final ClassLoader CLASS_LOADER = ProxyClearanceModel.class.getClassLoader();
+
+    ProxyClearanceModel(
+            Class<?> type,
+            ClearanceLayout layout,
+            Cache<ResolvableType, Object> beanCache,
+            SharedHelperResolver sharedHelperResolver,
+            boolean valueEquality
+    ) {
+        this(type, new ClearanceDispatchTable(type, layout, beanCache, sharedHelperResolver), valueEquality);
+    }
+
+    @Override
+    public Clearance create(Authentication auth, ClearanceData data, ClearanceBatch.@Nullable Member member) {
+        var handler = new ClearanceInvocationHandler(type, dispatchTable, auth, data, valueEquality, member);
+        return (Clearance) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{type}, handler);
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class RecordPropertyProvider<T> extends ReflectivePropertyProvider<T> {
+
+    final Map<Method, Function<Object, @Nullable Object>> accessors;
+
+    RecordPropertyProvider(
+            Class<T> sourceType,
+            List<Property> properties,
+            ConversionService conversionService,
+            Cache<Class<?>, PropertyProvider<?>> propertyProviderCache
+    ) {
+        super(sourceType, properties, conversionService, propertyProviderCache);
+        this.accessors = Arrays
+                .stream(sourceType.getRecordComponents())
+                .map(RecordComponent::getAccessor)
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), ReflectivePropertyProvider::bind));
+    }
+
+    @Override
+    @Nullable Object read(T source, Method method) {
+        var accessor = accessors.get(method);
+        return accessor == null ? super.read(source, method) : accessor.apply(source);
+    }
+
+    @Override
+    Function<Object, @Nullable Object> getter(Method method) {
+        var accessor = accessors.get(method);
+        return accessor == null ? super.getter(method) : accessor;
+    }
+
+}
@@ -1,25 +1,38 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
+import io.github.naomimyselfandi.staticsecurity.Conversion;
 import io.github.naomimyselfandi.staticsecurity.Property;
 import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
 import io.github.naomimyselfandi.staticsecurity.Unwrap;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.util.ReflectionUtils;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 class ReflectivePropertyProvider<T> implements PropertyProvider<T> {
 
+    private record Route(int index, PropertyProvider<Object> delegate) {}
+
     private final List<Method> unwrappedMethods;
+    private final Map<Property, Property> tails = new ConcurrentHashMap<>();
+    private final Map<Property, Conversion> conversions = new ConcurrentHashMap<>();
     private final TypeDescriptor sourceTypeDescriptor;
 
     @Getter(onMethod_ = @Override)
@@ -49,19 +62,13 @@ class ReflectivePropertyProvider<T> implements PropertyProvider<T> {
 
     @Override
     public @Nullable Object extract(T source, Property property) {
-        var sourceProperty = properties.get(property.name());
-        if (sourceProperty != null) {
-            var sourceType = sourceProperty.type();
-            var targetType = property.type();
-            if (conversionService.canConvert(sourceType, targetType)) {
-                var method = sourceProperty.method();
-                ReflectionUtils.makeAccessible(method);
-                var sourceValue = ReflectionUtils.invokeMethod(method, source);
-                if (sourceValue != null) {
-                    return conversionService.convert(sourceValue, sourceType, targetType);
-                }
-            }
-            return null;
+        var sourceProperty = properties.get(property.path().get(0));
+        if (sourceProperty != null && isNested(property)) {
+            var value = read(source, sourceProperty.method());
+            return value == null ? null : nested(sourceProperty).extract(value, tail(property));
+        } else if (sourceProperty != null) {
+            var conversion = conversion(sourceProperty, property);
+            return conversion.isPossible() ? conversion.convert(read(source, sourceProperty.method())) : null;
         }
         for (var method : unwrappedMethods) {
             @SuppressWarnings("unchecked")
@@ -77,6 +84,50 @@ class ReflectivePropertyProvider<T> implements PropertyProvider<T> {
         return null;
     }
 
+    CompiledDataSource.Step<T> compile(Property property) {
+        var sourceProperty = properties.get(property.path().get(0));
+        if (sourceProperty == null) {
+            return compileUnwrapped(property);
+        } else if (isNested(property)) {
+            var getter = getter(sourceProperty.method());
+            var delegate = nested(sourceProperty);
+            var tail = tail(property);
+            return (source, unwrapped) -> {
+                var value = getter.apply(source);
+                return value == null ? null : delegate.extract(value, tail);
+            };
+        }
+        var conversion = conversion(sourceProperty, property);
+        var getter = getter(sourceProperty.method());
+        // the conversion stops asking once it's possible, but converters may be registered after this is compiled
+        return (source, unwrapped) -> conversion.isPossible() ? conversion.convert(getter.apply(source)) : null;
+    }
+
+    List<Function<Object, @Nullable Object>> unwraps() {
+        return unwrappedMethods.stream().map(this::getter).toList();
+    }
+
+    private CompiledDataSource.Step<T> compileUnwrapped(Property property) {
+        var routes = new ArrayList<Route>();
+        for (var i = 0; i < unwrappedMethods.size(); i++) {
+            var method = unwrappedMethods.get(i);
+            @SuppressWarnings("unchecked")
+            var delegate = (PropertyProvider<Object>) propertyProviderCache.get(method.getReturnType());
+            if (delegate.canExtract(property)) {
+                routes.add(new Route(i, delegate));
+            }
+        }
+        return (source, unwrapped) -> {
+            for (var route : routes) {
+                var value = unwrapped.get(route.index());
+                if (value != null) {
+                    return route.delegate().extract(value, property);
+                }
+            }
+            return null;
+        };
+    }
+
     @Override
     public @Nullable Object flatten(T source, Property property) {
         return conversionService.convert(source, property.type());
@@ -84,11 +135,11 @@ class ReflectivePropertyProvider<T> implements PropertyProvider<T> {
 
     @Override
     public boolean canExtract(Property property) {
-        var sourceProperty = properties.get(property.name());
-        if (sourceProperty != null) {
-            var sourceType = sourceProperty.type();
-            var targetType = property.type();
-            return conversionService.canConvert(sourceType, targetType);
+        var sourceProperty = properties.get(property.path().get(0));
+        if (sourceProperty != null && isNested(property)) {
+            return nested(sourceProperty).canExtract(tail(property));
+        } else if (sourceProperty != null) {
+            return conversion(sourceProperty, property).isPossible();
         } else {
             return unwrappedMethods
                     .stream()
@@ -103,6 +154,60 @@ class ReflectivePropertyProvider<T> implements PropertyProvider<T> {
         return conversionService.canConvert(sourceTypeDescriptor, property.type());
     }
 
+    private Property tail(Property property) {
+        return tails.computeIfAbsent(property, PropertyImpl::tail);
+    }
+
+    private Conversion conversion(Property sourceProperty, Property property) {
+        return conversions.computeIfAbsent(property, it -> Conversion.of(
+                conversionService,
+                sourceProperty.type(),
+                property.type()));
+    }
+
+    static boolean isNested(Property property) {
+        return property.path().size() > 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PropertyProvider<Object> nested(Property sourceProperty) {
+        return (PropertyProvider<Object>) propertyProviderCache.get(sourceProperty.method().getReturnType());
+    }
+
+    @Nullable Object read(T source, Method method) {
+        ReflectionUtils.makeAccessible(method);
+        return ReflectionUtils.invokeMethod(method, source);
+    }
+
+    Function<Object, @Nullable Object> getter(Method method) {
+        return bind(method);
+    }
+
+    static Function<Object, @Nullable Object> bind(Method method) {
+        try {
+            var lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            var handle = lookup.unreflect(method);
+            var callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    handle.type().wrap());
+            return instantiate(callSite);
+        } catch (IllegalAccessException | LambdaConversionException | LinkageError ignored) {
+            // the method isn't accessible to us in a way that allows this; fall back to reflection
+            ReflectionUtils.makeAccessible(method);
+            return source -> ReflectionUtils.invokeMethod(method, source);
+        }
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    private static Function<Object, @Nullable Object> instantiate(CallSite callSite) {
+        return (Function<Object, Object>) callSite.getTarget().invokeExact();
+    }
+
     private static Map<String, Property> keyByName(List<Property> properties) {
         return properties.stream().collect(Collectors.toUnmodifiableMap(Property::name, Function.identity()));
     }
@@ -0,0 +1,62 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.security.core.Authentication;
+
+final class SharedHelper {
+
+    private final Cache cache;
+    private final String signature;
+    private final int[] slots;
+    private final boolean principal;
+
+    SharedHelper(Cache cache, String signature, int[] slots, boolean principal) {
+        this.cache = cache;
+        this.signature = signature;
+        this.slots = slots;
+        this.principal = principal;
+    }
+
+    Cache cache() {
+        return cache;
+    }
+
+    Object key(Authentication auth, ClearanceData data, @Nullable Object[] args) {
+        var argCount = args == null ? 0 : args.length;
+        var offset = principal ? 2 : 1;
+        var elements = new Object[offset + argCount + slots.length];
+        elements[0] = signature;
+        if (principal) {
+            elements[1] = ClearanceInvocationHandler.principal(auth);
+        }
+        if (argCount > 0) {
+            System.arraycopy(args, 0, elements, offset, argCount);
+        }
+        for (var i = 0; i < slots.length; i++) {
+            elements[offset + argCount + i] = data.get(slots[i]);
+        }
+        return new SimpleKey(elements);
+    }
+
+    @Nullable Object get(
+            Authentication auth,
+            ClearanceData data,
+            @Nullable Object[] args,
+            HelperCache.Computation computation
+    ) throws Throwable {
+        try {
+            return cache.get(key(auth, data, args), () -> compute(computation));
+        } catch (Cache.ValueRetrievalException e) {
+            throw e.getCause() == null ? e : e.getCause();
+        }
+    }
+
+    @SneakyThrows
+    private static @Nullable Object compute(HelperCache.Computation computation) {
+        return computation.compute();
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+@RequiredArgsConstructor
+class SharedHelperResolver {
+
+    private final ConcurrentMap<String, Cache> localCaches = new ConcurrentHashMap<>();
+
+    private final ObjectProvider<CacheManager> cacheManagers;
+
+    @Nullable SharedHelper resolve(Method method, ClearanceLayout layout) {
+        var annotation = method.getAnnotation(Clearance.SharedCache.class);
+        var helper = method.getAnnotation(Clearance.Helper.class);
+        if (annotation == null || helper == null || helper.value() != Clearance.Helper.Type.CACHED) {
+            return null;
+        }
+        var key = annotation.key();
+        var slots = new int[key.length];
+        for (var i = 0; i < key.length; i++) {
+            slots[i] = layout.slotOf(key[i]);
+            if (slots[i] < 0) {
+                var message = "%s uses unknown property '%s' in its cache key.".formatted(method, key[i]);
+                throw new IllegalStateException(message);
+            }
+        }
+        return new SharedHelper(cache(annotation), method.toGenericString(), slots, annotation.principal());
+    }
+
+    private Cache cache(Clearance.SharedCache annotation) {
+        var name = annotation.value();
+        var cacheManager = cacheManagers.getIfUnique();
+        if (cacheManager == null) {
+            return localCaches.computeIfAbsent(name, it -> {
+                var ttl = Duration.ofSeconds(annotation.ttlSeconds());
+                return new LocalCache(it, ttl, annotation.maxSize());
+            });
+        }
+        var cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("No cache named '%s' is available.".formatted(name));
+        }
+        return cache;
+    }
+
+}
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +23,7 @@ class StaticSecurityConfiguration implements SmartInitializingSingleton {
     private final StaticSecurityService staticSecurityService;
     private final Cache<Class<?>, List<Property>> propertyCache;
     private final ObjectProvider<ConfigurableConversionService> conversionServices;
+    private final ClearanceWarmUp clearanceWarmUp;
 
     @Override
     public void afterSingletonsInstantiated() {
@@ -29,6 +31,16 @@ class StaticSecurityConfiguration implements SmartInitializingSingleton {
             conversionService.addConverter(new ClearanceConverter(staticSecurityService));
             conversionService.addConverter(new ClearanceReverseConverter(propertyCache, conversionService));
         }
+        // conversions are resolved while warming up, so the converters must be registered first
+        clearanceWarmUp.run();
+    }
+
+    @Bean
+    static CachePolicy staticSecurityCachePolicy(
+            @Value("${staticsecurity.cache.capacity:256}") int capacity,
+            @Value("${staticsecurity.cache.eviction:CLOCK}") CachePolicy.Eviction eviction
+    ) {
+        return new CachePolicy(capacity, eviction);
     }
 
     @Bean
@@ -2,19 +2,24 @@ package io.github.naomimyselfandi.staticsecurity.core;
 
 import io.github.naomimyselfandi.staticsecurity.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Component
 @RequiredArgsConstructor
 class StaticSecurityServiceImpl implements StaticSecurityService {
 
     private final Cache<Class<?>, List<? extends AccessPolicy<?>>> accessPolicyCache;
-    private final Cache<ResolvableType, Object> beanCache;
+    private final Cache<Class<?>, ClearanceModel> clearanceModelCache;
     private final Cache<DataSourceKey, Optional<? extends DataSource<?>>> dataSourceCache;
+    private final Cache<Class<?>, Prefetch> prefetchCache;
+    private final Cache<Class<?>, List<Property>> propertyCache;
+    private final List<Cache<?, ?>> caches;
 
     @Override
     public boolean canCreate(Class<?> source, Class<?> type) {
@@ -23,16 +28,47 @@ class StaticSecurityServiceImpl implements StaticSecurityService {
                 && dataSourceCache.get(new DataSourceKey(source, type.asSubclass(Clearance.class))).isPresent();
     }
 
+    @Override
+    public List<Property> getProperties(Class<? extends Clearance> type) {
+        return propertyCache.get(type);
+    }
+
+    @Override
+    public Map<String, CacheStatistics> getCacheStatistics() {
+        return caches.stream().collect(Collectors.toUnmodifiableMap(Cache::name, Cache::statistics));
+    }
+
     @Override
     public <S, C extends Clearance> PendingClearance<C> create(S source, Class<C> type) {
+        var data = getData(source, type);
+        var model = clearanceModelCache.get(type);
+        return new PendingClearanceImpl<>(model, data, getAccessPolicies(type), prefetchCache.get(type));
+    }
+
+    @Override
+    public <S, C extends Clearance> List<PendingClearance<C>> createAll(List<? extends S> sources, Class<C> type) {
+        var data = sources.stream().map(source -> getData(source, type)).toList();
+        var batch = new ClearanceBatch(clearanceModelCache.get(type), data);
+        var accessPolicies = getAccessPolicies(type);
+        var prefetch = prefetchCache.get(type);
+        return IntStream
+                .range(0, data.size())
+                .<PendingClearance<C>>mapToObj(i -> new BatchPendingClearance<>(batch, i, accessPolicies, prefetch))
+                .toList();
+    }
+
+    private <S> ClearanceData getData(S source, Class<? extends Clearance> type) {
         @SuppressWarnings("unchecked")
         var dataSource = (DataSource<S>) dataSourceCache
                 .get(new DataSourceKey(source.getClass(), type))
                 .orElseThrow(() -> new ClearanceSourceException("Cannot create %s from %s.".formatted(type, source)));
-        var data = dataSource.getData(source).get();
+        return dataSource.getData(source).get();
+    }
+
+    private <C extends Clearance> List<AccessPolicy<? super C>> getAccessPolicies(Class<C> type) {
         @SuppressWarnings("unchecked")
         var accessPolicies = (List<AccessPolicy<? super C>>) accessPolicyCache.get(type);
-        return new PendingClearanceImpl<>(type, data, accessPolicies, beanCache);
+        return accessPolicies;
     }
 
 }
@@ -1,28 +1,149 @@
 package io.github.naomimyselfandi.staticsecurity.jackson;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.Property;
 import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 final class ClearanceDeserializer<C extends Clearance> extends StdDeserializer<C> {
 
     final Class<C> clearanceType;
     final StaticSecurityService staticSecurityService;
+    final ConversionService conversionService;
+    final @Nullable Map<String, JsonConversion> fields;
+    private final @Nullable String flattenable;
 
-    ClearanceDeserializer(Class<C> clearanceType, StaticSecurityService staticSecurityService) {
+    ClearanceDeserializer(
+            Class<C> clearanceType,
+            StaticSecurityService staticSecurityService,
+            ConversionService conversionService,
+            @Nullable Map<String, JsonConversion> fields
+    ) {
         super(clearanceType);
         this.clearanceType = clearanceType;
         this.staticSecurityService = staticSecurityService;
+        this.conversionService = conversionService;
+        this.fields = fields == null ? null : Map.copyOf(fields);
+        this.flattenable = fields == null ? null : flattenable(fields);
     }
 
     @Override
     public C deserialize(JsonParser parser, @Nullable DeserializationContext context) throws IOException {
+        var fields = this.fields;
+        if (fields == null || context == null || !isObject(parser)) {
+            // scalars may be flattened into a clearance, which only the tree-based provider supports
+            return createFromTree(parser);
+        }
+        var flattenable = this.flattenable;
+        if (flattenable == null) {
+            return create(stream(parser, context, fields));
+        } else if (!parser.isExpectedStartObjectToken()) {
+            return createFromTree(parser);
+        }
+        // the whole object may be flattened into the one required property, so keep it in case that's missing
+        try (var buffer = context.bufferAsCopyOfValue(parser); var copy = buffer.asParserOnFirstToken()) {
+            var values = stream(copy, context, fields);
+            if (values.containsKey(flattenable)) {
+                return create(values);
+            }
+            try (var tree = buffer.asParserOnFirstToken()) {
+                return createFromTree(tree);
+            }
+        }
+    }
+
+    private C create(Map<String, Object> values) {
+        return staticSecurityService.create(new JsonFields(values), clearanceType).require();
+    }
+
+    private C createFromTree(JsonParser parser) throws IOException {
         return staticSecurityService.create(parser.readValueAsTree(), clearanceType).require();
     }
 
+    private Map<String, Object> stream(
+            JsonParser parser,
+            DeserializationContext context,
+            Map<String, JsonConversion> fields
+    ) throws IOException {
+        var values = new HashMap<String, Object>();
+        var name = parser.isExpectedStartObjectToken() ? parser.nextFieldName() : parser.currentName();
+        for (; name != null; name = parser.nextFieldName()) {
+            parser.nextToken();
+            var conversion = fields.get(name);
+            if (conversion == null) {
+                parser.skipChildren();
+                continue;
+            }
+            var value = read(parser, context, conversion);
+            if (value == null) {
+                values.remove(conversion.property.name());
+            } else {
+                values.put(conversion.property.name(), value);
+            }
+        }
+        return values;
+    }
+
+    private static @Nullable String flattenable(Map<String, JsonConversion> fields) {
+        var required = fields
+                .values()
+                .stream()
+                .map(conversion -> conversion.property)
+                .filter(Property::required)
+                .toList();
+        return required.size() == 1 ? required.get(0).name() : null;
+    }
+
+    private static boolean isObject(JsonParser parser) {
+        return parser.isExpectedStartObjectToken() || parser.hasToken(JsonToken.FIELD_NAME);
+    }
+
+    private @Nullable Object read(
+            JsonParser parser,
+            DeserializationContext context,
+            JsonConversion conversion
+    ) throws IOException {
+        var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        var route = conversion.route(JsonConversion.Kind.of(parser, context));
+        if (route != null) {
+            return route.convert(parser);
+        }
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            var pojo = parser.getEmbeddedObject();
+            var propertyType = conversion.property.type();
+            if (pojo != null && conversionService.canConvert(TypeDescriptor.forObject(pojo), propertyType)) {
+                return conversionService.convert(pojo, TypeDescriptor.forObject(pojo), propertyType);
+            }
+        }
+        return readValue(parser, context, conversion.javaType);
+    }
+
+    private static @Nullable Object readValue(
+            JsonParser parser,
+            DeserializationContext context,
+            JavaType javaType
+    ) throws IOException {
+        // buffer just this value, so an invalid one can be treated as missing like the tree-based provider does
+        try (var buffer = context.bufferAsCopyOfValue(parser); var value = buffer.asParserOnFirstToken()) {
+            return context.readValue(value, javaType);
+        } catch (JsonProcessingException | IllegalArgumentException thrownByReadValue) {
+            return null;
+        }
+    }
+
 }
@@ -3,15 +3,22 @@ package io.github.naomimyselfandi.staticsecurity.jackson;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.deser.Deserializers;
 import com.fasterxml.jackson.databind.deser.KeyDeserializers;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.github.naomimyselfandi.staticsecurity.Clearance;
 import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.lang.Nullable;
 
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 final class ClearanceDeserializers extends Deserializers.Base implements KeyDeserializers {
 
     final StaticSecurityService staticSecurityService;
+    final ConversionService conversionService;
 
     @Override
     public @Nullable JsonDeserializer<?> findBeanDeserializer(
@@ -21,7 +28,10 @@ final class ClearanceDeserializers extends Deserializers.Base implements KeyDese
     ) {
         var type = javaType.getRawClass();
         if (staticSecurityService.canCreate(JsonNode.class, type)) {
-            return new ClearanceDeserializer<>(type.asSubclass(Clearance.class), staticSecurityService);
+            var clearanceType = type.asSubclass(Clearance.class);
+            var typeFactory = config == null ? TypeFactory.defaultInstance() : config.getTypeFactory();
+            var fields = fields(clearanceType, typeFactory);
+            return new ClearanceDeserializer<>(clearanceType, staticSecurityService, conversionService, fields);
         } else {
             return null;
         }
@@ -41,4 +51,24 @@ final class ClearanceDeserializers extends Deserializers.Base implements KeyDese
         }
     }
 
+    private @Nullable Map<String, JsonConversion> fields(Class<? extends Clearance> type, TypeFactory typeFactory) {
+        if (!staticSecurityService.canCreate(JsonFields.class, type)) {
+            return null;
+        }
+        var properties = staticSecurityService.getProperties(type);
+        if (properties.isEmpty()) {
+            return null; // the service doesn't tell us its properties
+        }
+        var conversions = properties
+                .stream()
+                .map(property -> JsonConversion.of(property, conversionService, typeFactory))
+                .toList();
+        var fields = conversions
+                .stream()
+                .filter(conversion -> conversion.pointer == null)
+                .collect(Collectors.toMap(conversion -> conversion.field, Function.identity(), (x, y) -> x));
+        // nested paths, or several properties read from one field, need the tree-based provider
+        return fields.size() == conversions.size() ? fields : null;
+    }
+
 }
@@ -0,0 +1,181 @@
+package io.github.naomimyselfandi.staticsecurity.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+final class JsonConversion {
+
+    enum Kind {
+
+        STRING(String.class),
+        BOOLEAN(Boolean.class),
+        SHORT(Short.class),
+        INTEGER(Integer.class),
+        LONG(Long.class),
+        BIG_INTEGER(BigInteger.class),
+        BIG_DECIMAL(BigDecimal.class),
+        DOUBLE(Double.class);
+
+        final TypeDescriptor type;
+
+        Kind(Class<?> type) {
+            this.type = TypeDescriptor.valueOf(type);
+        }
+
+        static @Nullable Kind of(JsonNode node) {
+            return switch (node.getNodeType()) {
+                case STRING -> STRING;
+                case BOOLEAN -> BOOLEAN;
+                case NUMBER -> switch (node.numberType()) {
+                    case INT -> node.isShort() ? SHORT : INTEGER;
+                    case LONG -> LONG;
+                    case BIG_INTEGER -> BIG_INTEGER;
+                    case BIG_DECIMAL -> BIG_DECIMAL;
+                    case FLOAT, DOUBLE -> DOUBLE;
+                };
+                default -> null;
+            };
+        }
+
+        static @Nullable Kind of(JsonParser parser, DeserializationContext context) throws IOException {
+            return switch (parser.currentToken()) {
+                case VALUE_STRING -> STRING;
+                case VALUE_TRUE, VALUE_FALSE -> BOOLEAN;
+                case VALUE_NUMBER_INT -> switch (parser.getNumberType()) {
+                    case LONG -> LONG;
+                    case BIG_INTEGER -> BIG_INTEGER;
+                    default -> INTEGER;
+                };
+                case VALUE_NUMBER_FLOAT -> context.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                        ? BIG_DECIMAL
+                        : DOUBLE;
+                default -> null;
+            };
+        }
+
+        // the kinds whose conversions are tried, in order, for a value of this kind
+        private List<Kind> candidates() {
+            return switch (this) {
+                case STRING, BOOLEAN, DOUBLE -> List.of(this);
+                case SHORT, INTEGER, LONG -> List.of(this, BIG_INTEGER, DOUBLE);
+                case BIG_INTEGER, BIG_DECIMAL -> List.of(this, DOUBLE);
+            };
+        }
+
+    }
+
+    record Route(Kind source, TypeDescriptor targetType, ConversionService conversionService) {
+
+        @Nullable Object convert(JsonNode node) {
+            return convert(switch (source) {
+                case STRING -> node.textValue();
+                case BOOLEAN -> node.booleanValue();
+                case SHORT -> node.shortValue();
+                case INTEGER -> node.intValue();
+                case LONG -> node.longValue();
+                case BIG_INTEGER -> node.bigIntegerValue();
+                case BIG_DECIMAL -> node.decimalValue();
+                case DOUBLE -> node.doubleValue();
+            });
+        }
+
+        @Nullable Object convert(JsonParser parser) throws IOException {
+            return convert(switch (source) {
+                case STRING -> parser.getText();
+                case BOOLEAN -> parser.getBooleanValue();
+                case SHORT -> parser.getShortValue();
+                case INTEGER -> parser.getIntValue();
+                case LONG -> parser.getLongValue();
+                case BIG_INTEGER -> parser.getBigIntegerValue();
+                case BIG_DECIMAL -> parser.getDecimalValue();
+                case DOUBLE -> parser.getDoubleValue();
+            });
+        }
+
+        private @Nullable Object convert(@Nullable Object value) {
+            return value == null ? null : conversionService.convert(value, source.type, targetType);
+        }
+
+    }
+
+    final Property property;
+    final String field;
+    final @Nullable JsonPointer pointer;
+    final JavaType javaType;
+    private final ConversionService conversionService;
+    private final @Nullable Route[] routes;
+
+    private JsonConversion(Property property, ConversionService conversionService, TypeFactory typeFactory) {
+        this.property = property;
+        this.conversionService = conversionService;
+        var path = property.path();
+        this.field = path.get(0);
+        this.pointer = path.size() == 1 ? null : pointer(path);
+        this.javaType = resolveJavaType(property.type().getResolvableType(), typeFactory);
+        this.routes = new Route[Kind.values().length];
+    }
+
+    static JsonConversion of(Property property, ConversionService conversionService, TypeFactory typeFactory) {
+        return new JsonConversion(property, conversionService, typeFactory);
+    }
+
+    @Nullable Route route(@Nullable Kind kind) {
+        if (kind == null) {
+            return null;
+        }
+        // a missing route is looked for again each time, since converters may be registered later
+        var route = routes[kind.ordinal()];
+        if (route == null) {
+            var targetType = property.type();
+            for (var candidate : kind.candidates()) {
+                if (conversionService.canConvert(candidate.type, targetType)) {
+                    route = new Route(candidate, targetType, conversionService);
+                    routes[kind.ordinal()] = route;
+                    break;
+                }
+            }
+        }
+        return route;
+    }
+
+    @Nullable JsonNode find(JsonNode source) {
+        return pointer == null ? source.get(field) : source.at(pointer);
+    }
+
+    private static JsonPointer pointer(List<String> path) {
+        var result = JsonPointer.empty();
+        for (var segment : path) {
+            result = result.appendProperty(segment);
+        }
+        return result;
+    }
+
+    private static JavaType resolveJavaType(ResolvableType type, TypeFactory typeFactory) {
+        if (type.hasGenerics()) {
+            var generics = type.getGenerics();
+            var javaGenerics = new JavaType[generics.length];
+            for (var i = 0; i < generics.length; i++) {
+                javaGenerics[i] = resolveJavaType(generics[i], typeFactory);
+            }
+            return typeFactory.constructParametricType(type.toClass(), javaGenerics);
+        } else {
+            return typeFactory.constructType(type.getType());
+        }
+    }
+
+}
@@ -0,0 +1,5 @@
+package io.github.naomimyselfandi.staticsecurity.jackson;
+
+import java.util.Map;
+
+record JsonFields(Map<String, Object> values) {}
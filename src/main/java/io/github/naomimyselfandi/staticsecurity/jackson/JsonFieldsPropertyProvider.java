@@ -0,0 +1,26 @@
+package io.github.naomimyselfandi.staticsecurity.jackson;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+class JsonFieldsPropertyProvider implements PropertyProvider<JsonFields> {
+
+    @Override
+    public @Nullable Object extract(JsonFields source, Property property) {
+        return source.values().get(property.name());
+    }
+
+    @Override
+    public @Nullable Object flatten(JsonFields source, Property property) {
+        return null;
+    }
+
+    @Override
+    public boolean canFlatten(Property property) {
+        return false;
+    }
+
+}
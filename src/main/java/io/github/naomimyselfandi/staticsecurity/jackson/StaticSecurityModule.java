@@ -3,6 +3,7 @@ package io.github.naomimyselfandi.staticsecurity.jackson;
 import com.fasterxml.jackson.core.Version;
 import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 final class StaticSecurityModule extends com.fasterxml.jackson.databind.Module {
 
     private final StaticSecurityService staticSecurityService;
+    private final ConversionService conversionService;
 
     @Override
     public String getModuleName() {
@@ -25,7 +27,7 @@ final class StaticSecurityModule extends com.fasterxml.jackson.databind.Module {
 
     @Override
     public void setupModule(SetupContext context) {
-        var deserializers = new ClearanceDeserializers(staticSecurityService);
+        var deserializers = new ClearanceDeserializers(staticSecurityService, conversionService);
         context.addDeserializers(deserializers);
         context.addKeyDeserializers(deserializers);
     }
@@ -0,0 +1,54 @@
+package io.github.naomimyselfandi.staticsecurity.micrometer;
+
+import io.github.naomimyselfandi.staticsecurity.CacheStatistics;
+import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+record CacheMetrics(StaticSecurityService staticSecurityService) implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (var name : staticSecurityService.getCacheStatistics().keySet()) {
+            FunctionCounter
+                    .builder("staticsecurity.cache.gets", this, counter(name, CacheStatistics::hits))
+                    .tags("cache", name, "result", "hit")
+                    .description("Metadata lookups answered from the cache")
+                    .register(registry);
+            FunctionCounter
+                    .builder("staticsecurity.cache.gets", this, counter(name, CacheStatistics::misses))
+                    .tags("cache", name, "result", "miss")
+                    .description("Metadata lookups which computed a value")
+                    .register(registry);
+            FunctionCounter
+                    .builder("staticsecurity.cache.evictions", this, counter(name, CacheStatistics::evictions))
+                    .tags("cache", name)
+                    .description("Metadata removed from the cache to make room for other metadata")
+                    .register(registry);
+            FunctionTimer
+                    .builder(
+                            "staticsecurity.cache.computations",
+                            this,
+                            it -> it.statistics(name).misses(),
+                            it -> it.statistics(name).computeTime().toNanos(),
+                            TimeUnit.NANOSECONDS)
+                    .tags("cache", name)
+                    .description("Time spent computing metadata")
+                    .register(registry);
+        }
+    }
+
+    private CacheStatistics statistics(String name) {
+        return staticSecurityService.getCacheStatistics().get(name);
+    }
+
+    private static ToDoubleFunction<CacheMetrics> counter(String name, ToDoubleFunction<CacheStatistics> value) {
+        return it -> value.applyAsDouble(it.statistics(name));
+    }
+
+}
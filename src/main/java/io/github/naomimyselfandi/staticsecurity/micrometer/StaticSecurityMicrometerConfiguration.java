@@ -0,0 +1,25 @@
+package io.github.naomimyselfandi.staticsecurity.micrometer;
+
+import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+class StaticSecurityMicrometerConfiguration implements SmartInitializingSingleton {
+
+    private final StaticSecurityService staticSecurityService;
+    private final ObjectProvider<MeterRegistry> meterRegistries;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        var cacheMetrics = new CacheMetrics(staticSecurityService);
+        for (var meterRegistry : meterRegistries) {
+            cacheMetrics.bindTo(meterRegistry);
+        }
+    }
+
+}
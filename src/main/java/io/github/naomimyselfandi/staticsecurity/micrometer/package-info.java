@@ -0,0 +1,4 @@
+@NonNullApi
+package io.github.naomimyselfandi.staticsecurity.micrometer;
+
+import org.springframework.lang.NonNullApi;
@@ -0,0 +1,401 @@
+package io.github.naomimyselfandi.staticsecurity.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor which generates clearance implementations at compile
+ * time. For each clearance type in a compilation, this processor generates a
+ * concrete implementation with a static property table, and registers it in an
+ * index. At runtime, the library uses these implementations instead of creating
+ * proxies or generating classes, which avoids most reflection during startup.
+ *
+ * <p>This processor is optional, and isn't registered as a service, so it only
+ * runs when it's named explicitly (for example, with javac's {@code -processor}
+ * option). It runs on compilations which use at least one of this library's
+ * annotations. Clearance types which can't be implemented by a class in their
+ * own package (such as private nested types or generic types) are skipped, and
+ * are handled at runtime as usual.</p>
+ */
+@SupportedAnnotationTypes("io.github.naomimyselfandi.staticsecurity.*")
+public final class ClearanceProcessor extends AbstractProcessor {
+
+    static final String INDEX = "META-INF/staticsecurity/clearances";
+    static final String SUFFIX = "$StaticSecurity";
+
+    private static final String CLEARANCE = "io.github.naomimyselfandi.staticsecurity.Clearance";
+    private static final String HELPER = CLEARANCE + ".Helper";
+    private static final String SUPERCLASS = "io.github.naomimyselfandi.staticsecurity.core.GeneratedClearance";
+    private static final Pattern RESERVED = Pattern.compile("__.*__");
+    private static final Pattern NORMALIZER = Pattern.compile("(?:get|is)([A-Z])(.*)");
+    private static final Set<String> NOT_PROPERTIES = Set.of("hashCode", "toString", "getClass", "clone");
+    private static final Set<String> OPTIONALS = Set.of(
+            "java.util.Optional",
+            "java.util.OptionalInt",
+            "java.util.OptionalLong",
+            "java.util.OptionalDouble");
+
+    private record Member(ExecutableElement method, String name, String helper) {}
+
+    private final Map<String, String> index = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var clearance = processingEnv.getElementUtils().getTypeElement(CLEARANCE);
+        if (clearance == null) {
+            return false;
+        } else if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (var type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                process(type, clearance);
+            }
+        }
+        return false;
+    }
+
+    private void process(TypeElement type, TypeElement clearance) {
+        if (isClearance(type, clearance)) {
+            try {
+                generate(type);
+            } catch (IOException e) {
+                var message = "Could not generate an implementation of %s: %s".formatted(type, e.getMessage());
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, type);
+            }
+        }
+        for (var nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            process(nested, clearance);
+        }
+    }
+
+    private boolean isClearance(TypeElement type, TypeElement clearance) {
+        var types = processingEnv.getTypeUtils();
+        return type.getKind() == ElementKind.INTERFACE
+                && !type.equals(clearance)
+                && type.getTypeParameters().isEmpty()
+                && !type.getModifiers().contains(Modifier.SEALED)
+                && types.isSubtype(types.erasure(type.asType()), types.erasure(clearance.asType()));
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        var elements = processingEnv.getElementUtils();
+        var pkg = elements.getPackageOf(type);
+        if (!isAccessible(type.asType(), pkg)) {
+            return;
+        }
+        var properties = new ArrayList<Member>();
+        var methods = new ArrayList<Member>();
+        for (var method : members(type)) {
+            var signature = new ArrayList<TypeMirror>(method.getThrownTypes());
+            signature.add(method.getReturnType());
+            method.getParameters().stream().map(Element::asType).forEach(signature::add);
+            if (!signature.stream().allMatch(it -> isAccessible(it, pkg))) {
+                return;
+            }
+            var helper = helperType(method);
+            if (isProperty(method, helper)) {
+                properties.add(new Member(method, name(method), helper));
+            } else if (!"DIRECT".equals(helper) || !method.getModifiers().contains(Modifier.DEFAULT)) {
+                methods.add(new Member(method, method.getSimpleName().toString(), helper));
+            }
+        }
+        properties.sort(Comparator.comparing(it -> it.method.getSimpleName().toString()));
+        methods.sort(Comparator.comparing(it -> it.method.toString()));
+        var packageName = pkg.getQualifiedName().toString();
+        var binaryName = elements.getBinaryName(type).toString();
+        var simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        var qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        var file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (var out = new PrintWriter(file.openWriter())) {
+            new Writer(out, type, simpleName, packageName).write(properties, methods);
+        }
+        index.put(binaryName, qualifiedName);
+    }
+
+    private Collection<ExecutableElement> members(TypeElement type) {
+        var elements = processingEnv.getElementUtils();
+        var result = new LinkedHashMap<String, ExecutableElement>();
+        for (var method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            var modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+                continue;
+            } else if (method.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                continue; // methods inherited from Object are implemented by our superclass
+            } else if (isObjectMethod(method) || isReservedAccessor(method)) {
+                continue;
+            }
+            var key = method.getSimpleName() + method.getParameters()
+                    .stream()
+                    .map(it -> erasure(it.asType()))
+                    .collect(Collectors.joining(",", "(", ")"));
+            var existing = result.get(key);
+            if (existing == null || elements.overrides(method, existing, type)) {
+                result.put(key, method);
+            }
+        }
+        return result.values();
+    }
+
+    private boolean isObjectMethod(ExecutableElement method) {
+        var name = method.getSimpleName().toString();
+        var parameters = method.getParameters();
+        return switch (name) {
+            case "hashCode", "toString" -> parameters.isEmpty();
+            case "equals" -> parameters.size() == 1
+                    && erasure(parameters.get(0).asType()).equals("java.lang.Object");
+            default -> false;
+        };
+    }
+
+    private static boolean isReservedAccessor(ExecutableElement method) {
+        var name = method.getSimpleName().toString();
+        return method.getParameters().isEmpty() && (name.equals("__auth__") || name.equals("__data__"));
+    }
+
+    private static boolean isProperty(ExecutableElement method, @Nullable String helper) {
+        var name = method.getSimpleName().toString();
+        return method.getParameters().isEmpty()
+                && method.getReturnType().getKind() != TypeKind.VOID
+                && !NOT_PROPERTIES.contains(name)
+                && !RESERVED.matcher(name).matches()
+                && helper == null;
+    }
+
+    private static String name(ExecutableElement method) {
+        var name = method.getSimpleName().toString();
+        var matcher = NORMALIZER.matcher(name);
+        return matcher.matches() ? (matcher.group(1).toLowerCase() + matcher.group(2)) : name;
+    }
+
+    private static @Nullable String helperType(ExecutableElement method) {
+        for (var annotation : method.getAnnotationMirrors()) {
+            var annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(HELPER)) {
+                for (var entry : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return ((VariableElement) entry.getValue().getValue()).getSimpleName().toString();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isAccessible(TypeMirror type, PackageElement pkg) {
+        var erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure instanceof ArrayType arrayType) {
+            return isAccessible(arrayType.getComponentType(), pkg);
+        } else if (erasure instanceof DeclaredType declaredType) {
+            var element = declaredType.asElement();
+            while (element instanceof TypeElement typeElement) {
+                var modifiers = typeElement.getModifiers();
+                if (modifiers.contains(Modifier.PRIVATE)) {
+                    return false;
+                } else if (!modifiers.contains(Modifier.PUBLIC)
+                        && !processingEnv.getElementUtils().getPackageOf(typeElement).equals(pkg)) {
+                    return false;
+                }
+                element = typeElement.getEnclosingElement();
+            }
+            return true;
+        } else {
+            return erasure.getKind().isPrimitive() || erasure.getKind() == TypeKind.VOID;
+        }
+    }
+
+    private void writeIndex() {
+        var filer = processingEnv.getFiler();
+        var entries = new TreeMap<String, String>();
+        try {
+            var existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (var reader = new BufferedReader(existing.openReader(true))) {
+                reader.lines()
+                        .map(line -> line.split("=", 2))
+                        .filter(pair -> pair.length == 2)
+                        .forEach(pair -> entries.put(pair[0], pair[1]));
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // there's no index from an earlier compilation, so there's nothing to merge
+        }
+        if (index.isEmpty()) {
+            return;
+        }
+        entries.putAll(index);
+        try {
+            var resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (var out = new PrintWriter(resource.openWriter())) {
+                entries.forEach((key, value) -> out.println(key + "=" + value));
+            }
+        } catch (IOException e) {
+            var message = "Could not write the clearance index: %s".formatted(e.getMessage());
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message);
+        }
+    }
+
+    private final class Writer {
+
+        private final PrintWriter out;
+        private final TypeElement type;
+        private final String simpleName;
+        private final String packageName;
+
+        Writer(PrintWriter out, TypeElement type, String simpleName, String packageName) {
+            this.out = out;
+            this.type = type;
+            this.simpleName = simpleName;
+            this.packageName = packageName;
+        }
+
+        void write(List<Member> properties, List<Member> methods) {
+            if (!packageName.isEmpty()) {
+                out.printf("package %s;%n%n", packageName);
+            }
+            out.printf("@javax.annotation.processing.Generated(\"%s\")%n", ClearanceProcessor.class.getName());
+            out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            out.printf("public final class %s extends %s implements %s {%n%n", simpleName, SUPERCLASS, name(type));
+            out.println("    public static final Object[][] PROPERTIES = {");
+            for (var property : properties) {
+                var method = property.method;
+                var required = !isDefault(method) && !OPTIONALS.contains(erasure(method.getReturnType()));
+                out.printf("            {\"%s\", \"%s\", %s},%n", property.name, method.getSimpleName(), required);
+            }
+            out.printf("    };%n%n");
+            out.println("    public static final Object[][] METHODS = {");
+            for (var member : methods) {
+                var row = new StringJoiner(", ", "{", "},");
+                row.add('"' + member.name + '"');
+                member.method.getParameters().forEach(it -> row.add(erasure(it.asType()) + ".class"));
+                out.printf("            %s%n", row);
+            }
+            out.printf("    };%n%n");
+            for (var i = 0; i < properties.size(); i++) {
+                out.printf("    private final %s p%d;%n", fieldType(properties.get(i).method), i);
+            }
+            out.println();
+            out.printf("    public %s(Object model, %s auth, java.util.Map<String, Object> data, Object member) {%n",
+                    simpleName, "org.springframework.security.core.Authentication");
+            out.println("        super(model, auth, data, member);");
+            for (var i = 0; i < properties.size(); i++) {
+                var fieldType = fieldType(properties.get(i).method);
+                switch (fieldType) {
+                    case "boolean", "int", "long", "double" -> out.printf("        this.p%d = __%s__(%d);%n", i, fieldType, i);
+                    default -> out.printf("        this.p%d = (%s) __value__(%d);%n", i, boxed(fieldType), i);
+                }
+            }
+            out.println("    }");
+            for (var i = 0; i < properties.size(); i++) {
+                var method = properties.get(i).method;
+                writeSignature(method);
+                if (isDefault(method)) {
+                    out.printf("        return p%d != null ? p%d : %s.super.%s();%n", i, i, name(type), method.getSimpleName());
+                } else {
+                    out.printf("        return p%d;%n", i);
+                }
+                out.println("    }");
+            }
+            for (var i = 0; i < methods.size(); i++) {
+                var member = methods.get(i);
+                var method = member.method;
+                writeSignature(method);
+                var returnType = method.getReturnType();
+                var prefix = returnType.getKind() == TypeKind.VOID ? "" : "return (%s) ".formatted(boxed(erasure(returnType)));
+                if ("CACHED".equals(member.helper)) {
+                    var args = new StringJoiner(", ", "new Object[]{", "}");
+                    for (var j = 0; j < method.getParameters().size(); j++) {
+                        args.add("a" + j);
+                    }
+                    out.printf("        %s__cached__(%d, %s);%n", prefix, i, args);
+                } else if ("SPRING".equals(member.helper)) {
+                    out.printf("        %s__bean__(%d);%n", prefix, i);
+                } else {
+                    out.printf("        throw __unsupported__(%d);%n", i);
+                }
+                out.println("    }");
+            }
+            out.println();
+            out.println("}");
+        }
+
+        private void writeSignature(ExecutableElement method) {
+            var parameters = new StringJoiner(", ");
+            var parameterList = method.getParameters();
+            for (var j = 0; j < parameterList.size(); j++) {
+                parameters.add("%s a%d".formatted(erasure(parameterList.get(j).asType()), j));
+            }
+            var thrown = method.getThrownTypes().isEmpty() ? "" : method
+                    .getThrownTypes()
+                    .stream()
+                    .map(ClearanceProcessor.this::erasure)
+                    .collect(Collectors.joining(", ", " throws ", ""));
+            out.println();
+            out.println("    @Override");
+            out.printf("    public %s %s(%s)%s {%n", erasure(method.getReturnType()), method.getSimpleName(), parameters, thrown);
+        }
+
+        private String fieldType(ExecutableElement method) {
+            var erasure = erasure(method.getReturnType());
+            return isDefault(method) ? boxed(erasure) : erasure;
+        }
+
+        private String boxed(String type) {
+            return switch (type) {
+                case "boolean" -> "java.lang.Boolean";
+                case "char" -> "java.lang.Character";
+                case "byte" -> "java.lang.Byte";
+                case "short" -> "java.lang.Short";
+                case "int" -> "java.lang.Integer";
+                case "float" -> "java.lang.Float";
+                case "long" -> "java.lang.Long";
+                case "double" -> "java.lang.Double";
+                default -> type;
+            };
+        }
+
+        private boolean isDefault(ExecutableElement method) {
+            return method.getModifiers().contains(Modifier.DEFAULT);
+        }
+
+        private String name(TypeElement type) {
+            return type.getQualifiedName().toString();
+        }
+
+    }
+
+    private String erasure(TypeMirror type) {
+        // TypeMirror.toString() includes type-use annotations, which aren't valid in a cast or class literal
+        var erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure instanceof ArrayType arrayType) {
+            return erasure(arrayType.getComponentType()) + "[]";
+        } else if (erasure instanceof DeclaredType declaredType) {
+            return ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        } else if (erasure.getKind().isPrimitive() || erasure.getKind() == TypeKind.VOID) {
+            return erasure.getKind().name().toLowerCase(Locale.ROOT);
+        } else {
+            return erasure.toString();
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+@NonNullApi
+package io.github.naomimyselfandi.staticsecurity.processor;
+
+import org.springframework.lang.NonNullApi;
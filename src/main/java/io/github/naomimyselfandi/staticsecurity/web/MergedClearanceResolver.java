@@ -17,7 +17,9 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.web.method.support.UriComponentsContributor;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.Arrays;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -28,6 +30,32 @@ final class MergedClearanceResolver implements HandlerMethodArgumentResolver, Ur
 
     private static final ParameterNameDiscoverer DISCOVERER = new DefaultParameterNameDiscoverer();
 
+    record MergePlan(Constructor<?> constructor, List<MethodParameter> parameters) {
+
+        static MergePlan compile(Class<?> definition) {
+            var constructor = definition.getDeclaredConstructors()[0];
+            constructor.setAccessible(true);
+            var parameters = new ArrayList<MethodParameter>(constructor.getParameterCount());
+            for (var parameter : constructor.getParameters()) {
+                var param = MethodParameter.forParameter(parameter);
+                param.initParameterNameDiscovery(DISCOVERER);
+                param.getParameterName(); // discover names now rather than on each request
+                parameters.add(param);
+            }
+            return new MergePlan(constructor, List.copyOf(parameters));
+        }
+
+    }
+
+    private final ClassValue<MergePlan> plans = new ClassValue<>() {
+
+        @Override
+        protected MergePlan computeValue(Class<?> definition) {
+            return MergePlan.compile(definition);
+        }
+
+    };
+
     final StaticSecurityService staticSecurityService;
     final Supplier<HandlerMethodArgumentResolver> resolverSupplier;
     final Supplier<UriComponentsContributor> contributorSupplier;
@@ -54,13 +82,10 @@ final class MergedClearanceResolver implements HandlerMethodArgumentResolver, Ur
             NativeWebRequest webRequest,
             @Nullable WebDataBinderFactory binderFactory
     ) throws Exception {
-        var definition = Objects.requireNonNull(parameter.getParameterAnnotation(MergedClearance.class)).value();
-        var constructor = definition.getDeclaredConstructors()[0];
-        constructor.setAccessible(true);
-        var arguments = Arrays
-                .stream(constructor.getParameters())
-                .map(MethodParameter::forParameter)
-                .peek(param -> param.initParameterNameDiscovery(DISCOVERER))
+        var plan = plan(parameter);
+        var arguments = plan
+                .parameters()
+                .stream()
                 .map(param -> {
                     try {
                         return getResolverDelegate().resolveArgument(param, mavContainer, webRequest, binderFactory);
@@ -70,7 +95,7 @@ final class MergedClearanceResolver implements HandlerMethodArgumentResolver, Ur
                         throw new RuntimeException(msg, e);
                     }
                 }).toArray();
-        var source = constructor.newInstance(arguments);
+        var source = plan.constructor().newInstance(arguments);
         var target = parameter.getParameterType().asSubclass(Clearance.class);
         return staticSecurityService.create(source, target).require();
     }
@@ -85,11 +110,7 @@ final class MergedClearanceResolver implements HandlerMethodArgumentResolver, Ur
     ) {
         var data = ((Clearance) value).__data__();
         var delegate = getContributorDelegate();
-        var definition = Objects.requireNonNull(parameter.getParameterAnnotation(MergedClearance.class)).value();
-        var constructor = definition.getDeclaredConstructors()[0];
-        for (var i : constructor.getParameters()) {
-            var param = MethodParameter.forParameter(i);
-            param.initParameterNameDiscovery(DISCOVERER);
+        for (var param : plan(parameter).parameters()) {
             var datum = data.get(param.getParameterName());
             if (datum != null) {
                 delegate.contributeMethodArgument(param, datum, builder, uriVariables, conversionService);
@@ -97,4 +118,16 @@ final class MergedClearanceResolver implements HandlerMethodArgumentResolver, Ur
         }
     }
 
+    void precompile(MethodParameter parameter) {
+        var definition = plan(parameter).constructor().getDeclaringClass();
+        var target = parameter.getParameterType();
+        if (!staticSecurityService.canCreate(definition, target)) {
+            throw new IllegalStateException("Cannot create %s from %s.".formatted(target, definition));
+        }
+    }
+
+    private MergePlan plan(MethodParameter parameter) {
+        return plans.get(Objects.requireNonNull(parameter.getParameterAnnotation(MergedClearance.class)).value());
+    }
+
 }
@@ -4,33 +4,112 @@ import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.env.Environment;
 import org.springframework.web.method.support.CompositeUriComponentsContributor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolverComposite;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 @Configuration
 @RequiredArgsConstructor
-class StaticSecurityWebConfiguration implements WebMvcConfigurer {
+class StaticSecurityWebConfiguration implements WebMvcConfigurer, ApplicationListener<ContextRefreshedEvent> {
+
+    private static final Log log = LogFactory.getLog(StaticSecurityWebConfiguration.class);
 
     private final StaticSecurityService staticSecurityService;
     private final ObjectProvider<RequestMappingHandlerAdapter> adapterProvider;
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+    private final Environment environment;
+
+    private final AtomicBoolean precompiled = new AtomicBoolean();
 
     @Getter(value = AccessLevel.PRIVATE, lazy = true)
     private final List<HandlerMethodArgumentResolver> resolvers = adapterProvider.getObject().getArgumentResolvers();
 
+    @Getter(value = AccessLevel.PACKAGE, lazy = true)
+    private final MergedClearanceResolver mergedClearanceResolver = new MergedClearanceResolver(
+            staticSecurityService,
+            () -> {
+                var composite = new HandlerMethodArgumentResolverComposite();
+                composite.addResolvers(getResolvers());
+                return composite;
+            },
+            () -> new CompositeUriComponentsContributor(getResolvers()));
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new MergedClearanceResolver(staticSecurityService, () -> {
-            var composite = new HandlerMethodArgumentResolverComposite();
-            composite.addResolvers(getResolvers());
-            return composite;
-        }, () -> new CompositeUriComponentsContributor(getResolvers())));
+        resolvers.add(getMergedClearanceResolver());
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        // this runs after the clearance converters are registered, since data source plans depend on them
+        var enabled = environment.getProperty("staticsecurity.warm-up.enabled", Boolean.class, true);
+        if (enabled && precompiled.compareAndSet(false, true)) {
+            precompile();
+        }
+    }
+
+    private void precompile() {
+        var start = System.nanoTime();
+        var resolver = getMergedClearanceResolver();
+        var parameters = handlerMappings
+                .stream()
+                .flatMap(handlerMapping -> handlerMapping.getHandlerMethods().values().stream())
+                .flatMap(handlerMethod -> Arrays.stream(handlerMethod.getMethodParameters()))
+                .filter(parameter -> parameter.hasParameterAnnotation(MergedClearance.class))
+                .toList();
+        var failures = parameters
+                .parallelStream()
+                .map(parameter -> {
+                    try {
+                        resolver.precompile(parameter);
+                        return null;
+                    } catch (RuntimeException | LinkageError e) {
+                        return new Failure(parameter, e);
+                    }
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        if (!failures.isEmpty()) {
+            var message = failures
+                    .stream()
+                    .map(Failure::toString)
+                    .collect(Collectors.joining("\n", "Some @MergedClearance parameters can't be resolved:\n", ""));
+            var exception = new IllegalStateException(message);
+            failures.forEach(failure -> exception.addSuppressed(failure.cause()));
+            throw exception;
+        }
+        if (log.isInfoEnabled()) {
+            var millis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            log.info("Precompiled %d @MergedClearance parameters in %d ms.".formatted(parameters.size(), millis));
+        }
+    }
+
+    private record Failure(MethodParameter parameter, Throwable cause) {
+
+        @Override
+        public String toString() {
+            var method = parameter.getExecutable().toGenericString();
+            return "- parameter %d of %s: %s".formatted(parameter.getParameterIndex(), method, cause.getMessage());
+        }
+
     }
 
 }
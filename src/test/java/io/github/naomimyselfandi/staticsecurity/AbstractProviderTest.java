@@ -75,9 +75,12 @@ class AbstractProviderTest {
     @Test
     void extract() {
         extracted = mock();
-        when(conversionService.canConvert(TypeDescriptor.forObject(extracted), Target.TYPE)).thenReturn(true);
-        when(conversionService.convert(extracted, Target.TYPE)).thenReturn(target);
+        var extractedType = TypeDescriptor.forObject(extracted);
+        when(conversionService.canConvert(extractedType, Target.TYPE)).thenReturn(true);
+        when(conversionService.convert(extracted, extractedType, Target.TYPE)).thenReturn(target);
         assertThat(fixture.extract(source, property)).isEqualTo(target);
+        assertThat(fixture.extract(source, property)).isEqualTo(target);
+        verify(conversionService).canConvert(extractedType, Target.TYPE);
     }
 
     @Test
@@ -85,7 +88,7 @@ class AbstractProviderTest {
         extracted = mock();
         when(conversionService.canConvert(TypeDescriptor.forObject(extracted), Target.TYPE)).thenReturn(false);
         assertThat(fixture.extract(source, property)).isNull();
-        verify(conversionService, never()).convert(extracted, Target.TYPE);
+        verify(conversionService, never()).convert(any(), any(), any());
     }
 
     @Test
@@ -0,0 +1,75 @@
+package io.github.naomimyselfandi.staticsecurity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConversionTest {
+
+    private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+    private static final TypeDescriptor INTEGER = TypeDescriptor.valueOf(Integer.class);
+    private static final TypeDescriptor CHAR_SEQUENCE = TypeDescriptor.valueOf(CharSequence.class);
+
+    @Mock
+    private ConversionService conversionService;
+
+    @Test
+    void convert() {
+        when(conversionService.canConvert(STRING, INTEGER)).thenReturn(true);
+        when(conversionService.convert("42", STRING, INTEGER)).thenReturn(42);
+        when(conversionService.convert("7", STRING, INTEGER)).thenReturn(7);
+        var fixture = Conversion.of(conversionService, STRING, INTEGER);
+        assertThat(fixture.isPossible()).isTrue();
+        assertThat(fixture.convert("42")).isEqualTo(42);
+        assertThat(fixture.convert("7")).isEqualTo(7);
+        assertThat(fixture.convert(null)).isNull();
+        verify(conversionService).canConvert(STRING, INTEGER);
+    }
+
+    @Test
+    void convert_WhenTheTypesAreTheSame_ThenStillUsesTheConversionService() {
+        var conversionService = new DefaultConversionService();
+        conversionService.addConverter(String.class, String.class, (Converter<String, String>) String::strip);
+        assertThat(Conversion.of(conversionService, STRING, STRING).convert(" x ")).isEqualTo("x");
+        assertThat(Conversion.of(conversionService, STRING, CHAR_SEQUENCE).convert("x")).isEqualTo("x");
+    }
+
+    @Test
+    void convert_WhenTheConverterFails_ThenThrows() {
+        var fixture = Conversion.of(new DefaultConversionService(), STRING, INTEGER);
+        assertThatThrownBy(() -> fixture.convert("NaN"))
+                .isInstanceOf(ConversionFailedException.class)
+                .hasCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void convert_WhenTheConversionIsNotPossible_ThenNull() {
+        when(conversionService.canConvert(STRING, INTEGER)).thenReturn(false);
+        var fixture = Conversion.of(conversionService, STRING, INTEGER);
+        assertThat(fixture.isPossible()).isFalse();
+        assertThat(fixture.convert("42")).isNull();
+        verify(conversionService, never()).convert(any(), any(), any());
+    }
+
+    @Test
+    void convert_WhenAConverterIsRegisteredLater_ThenUsesIt() {
+        when(conversionService.canConvert(STRING, INTEGER)).thenReturn(false, true);
+        when(conversionService.convert("42", STRING, INTEGER)).thenReturn(42);
+        var fixture = Conversion.of(conversionService, STRING, INTEGER);
+        assertThat(fixture.convert("42")).isNull();
+        assertThat(fixture.convert("42")).isEqualTo(42);
+        assertThat(fixture.convert("42")).isEqualTo(42);
+        verify(conversionService, times(2)).canConvert(STRING, INTEGER);
+    }
+
+}
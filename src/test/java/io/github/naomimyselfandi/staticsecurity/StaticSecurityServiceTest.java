@@ -37,6 +37,16 @@ class StaticSecurityServiceTest {
         };
     }
 
+    @Test
+    void getProperties() {
+        assertThat(fixture.getProperties(TestClearance.class)).isEmpty();
+    }
+
+    @Test
+    void getCacheStatistics() {
+        assertThat(fixture.getCacheStatistics()).isEmpty();
+    }
+
     @Test
     void createFactory() {
         canCreate.put(TestSource.class, TestClearance.class);
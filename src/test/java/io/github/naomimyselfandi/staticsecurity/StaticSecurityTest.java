@@ -24,7 +24,8 @@ class StaticSecurityTest {
         assertThat(new StaticSecurity().selectImports(importingClassMetadata)).containsExactly(
                 "io.github.naomimyselfandi.staticsecurity.core.StaticSecurityConfiguration",
                 "io.github.naomimyselfandi.staticsecurity.jackson.StaticSecurityJacksonConfiguration",
-                "io.github.naomimyselfandi.staticsecurity.web.StaticSecurityWebConfiguration"
+                "io.github.naomimyselfandi.staticsecurity.web.StaticSecurityWebConfiguration",
+                "io.github.naomimyselfandi.staticsecurity.micrometer.StaticSecurityMicrometerConfiguration"
         );
         verifyNoInteractions(importingClassMetadata);
     }
@@ -34,7 +35,8 @@ class StaticSecurityTest {
         when(loader.loadClass("com.fasterxml.jackson.databind.ObjectMapper"))
                 .thenThrow(ClassNotFoundException.class);
         assertThat(new StaticSecurity(loader).selectImports(importingClassMetadata)).containsExactly(
-                "io.github.naomimyselfandi.staticsecurity.core.StaticSecurityConfiguration"
+                "io.github.naomimyselfandi.staticsecurity.core.StaticSecurityConfiguration",
+                "io.github.naomimyselfandi.staticsecurity.micrometer.StaticSecurityMicrometerConfiguration"
         );
         verifyNoInteractions(importingClassMetadata);
         verify(loader, never()).loadClass("org.springframework.web.method.support.HandlerMethodArgumentResolver");
@@ -48,7 +50,21 @@ class StaticSecurityTest {
                 .thenThrow(ClassNotFoundException.class);
         assertThat(new StaticSecurity(loader).selectImports(importingClassMetadata)).containsExactly(
                 "io.github.naomimyselfandi.staticsecurity.core.StaticSecurityConfiguration",
-                "io.github.naomimyselfandi.staticsecurity.jackson.StaticSecurityJacksonConfiguration"
+                "io.github.naomimyselfandi.staticsecurity.jackson.StaticSecurityJacksonConfiguration",
+                "io.github.naomimyselfandi.staticsecurity.micrometer.StaticSecurityMicrometerConfiguration"
+        );
+        verifyNoInteractions(importingClassMetadata);
+    }
+
+    @Test
+    void selectImports_WhenMicrometerIsNotAvailable_ThenSkipsTheMetrics() throws ClassNotFoundException {
+        when(loader.loadClass(anyString())).thenReturn(null);
+        when(loader.loadClass("io.micrometer.core.instrument.MeterRegistry"))
+                .thenThrow(ClassNotFoundException.class);
+        assertThat(new StaticSecurity(loader).selectImports(importingClassMetadata)).containsExactly(
+                "io.github.naomimyselfandi.staticsecurity.core.StaticSecurityConfiguration",
+                "io.github.naomimyselfandi.staticsecurity.jackson.StaticSecurityJacksonConfiguration",
+                "io.github.naomimyselfandi.staticsecurity.web.StaticSecurityWebConfiguration"
         );
         verifyNoInteractions(importingClassMetadata);
     }
@@ -11,6 +11,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.support.AutowireCandidateResolver;
 import org.springframework.core.ResolvableType;
@@ -40,6 +41,12 @@ class AutowireCandidateResolverImplTest {
     @Mock
     private BeanFactory beanFactory;
 
+    @Mock
+    private ObjectProvider<ClearanceWarmUp> warmUpProvider;
+
+    @Mock
+    private ClearanceWarmUp warmUp;
+
     private AutowireCandidateResolverImpl fixture;
 
     @BeforeEach
@@ -62,7 +69,10 @@ class AutowireCandidateResolverImplTest {
         lenient().when(staticSecurityService.canCreate(Source.class, Target.class)).thenReturn(canCreate);
         if (canCreate || required) {
             when(staticSecurityService.createFactory(Source.class, Target.class)).thenReturn(factory);
+            when(beanFactory.getBeanProvider(ClearanceWarmUp.class)).thenReturn(warmUpProvider);
+            when(warmUpProvider.getIfAvailable()).thenReturn(warmUp);
             assertThat(fixture.getSuggestedValue(dependencyDescriptor)).isEqualTo(factory);
+            verify(warmUp).register(Source.class, Target.class);
         } else {
             assertThat(fixture.getSuggestedValue(dependencyDescriptor)).isNull();
             verify(staticSecurityService, never()).createFactory(Source.class, Target.class);
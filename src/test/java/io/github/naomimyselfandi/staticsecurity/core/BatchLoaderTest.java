@@ -0,0 +1,116 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchLoaderTest {
+
+    @SuppressWarnings("unused")
+    private interface TestClearance extends Clearance {
+
+        @Helper(Helper.Type.CACHED)
+        @Batch("load")
+        default Object batched() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        default Object notBatched() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        @Batch("load")
+        default Object withParameter(int parameter) {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        @Batch("missing")
+        default Object missingLoader() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        @Batch("notDirect")
+        default Object notDirectLoader() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        @Batch("wrongSize")
+        default Object wrongSize() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.DIRECT)
+        default List<String> load(List<TestClearance> batch) {
+            return batch.stream().map(it -> "x").toList();
+        }
+
+        default List<String> notDirect(List<TestClearance> batch) {
+            return fail();
+        }
+
+        @Helper(Helper.Type.DIRECT)
+        default List<String> wrongSize(List<TestClearance> batch) {
+            return List.of();
+        }
+
+    }
+
+    private final TestClearance clearance = (TestClearance) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{TestClearance.class},
+            (proxy, method, args) -> InvocationHandler.invokeDefault(proxy, method, args));
+
+    @Test
+    void resolve_WhenTheHelperIsNotBatched_ThenReturnsNull() throws NoSuchMethodException {
+        assertThat(BatchLoader.resolve(TestClearance.class, TestClearance.class.getMethod("notBatched"))).isNull();
+    }
+
+    @Test
+    void load() throws Throwable {
+        var loader = Objects.requireNonNull(BatchLoader.resolve(TestClearance.class, method("batched")));
+        assertThat(loader.load(clearance, List.of(clearance, clearance))).isEqualTo(List.of("x", "x"));
+    }
+
+    @Test
+    void load_WhenTheLoaderReturnsTheWrongNumberOfResults_ThenThrows() throws NoSuchMethodException {
+        var loader = Objects.requireNonNull(BatchLoader.resolve(TestClearance.class, method("wrongSize")));
+        assertThatThrownBy(() -> loader.load(clearance, List.of(clearance)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageEndingWith("must return a List with one result for each of the 1 clearances in the batch.");
+    }
+
+    @Test
+    void resolve_WhenTheHelperHasParameters_ThenThrows() throws NoSuchMethodException {
+        var method = TestClearance.class.getMethod("withParameter", int.class);
+        assertThatThrownBy(() -> BatchLoader.resolve(TestClearance.class, method))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageEndingWith("can't be batched because it has parameters.");
+    }
+
+    @Test
+    void resolve_WhenTheLoaderIsMissing_ThenThrows() {
+        assertThatThrownBy(() -> BatchLoader.resolve(TestClearance.class, method("missingLoader")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("names batch loader 'missing'");
+        assertThatThrownBy(() -> BatchLoader.resolve(TestClearance.class, method("notDirectLoader")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("names batch loader 'notDirect'");
+    }
+
+    private static Method method(String name) throws NoSuchMethodException {
+        return TestClearance.class.getMethod(name);
+    }
+
+}
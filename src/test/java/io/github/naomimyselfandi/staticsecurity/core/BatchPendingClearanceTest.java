@@ -0,0 +1,82 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.AccessPolicy;
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchPendingClearanceTest {
+
+    private interface TestClearance extends Clearance {}
+
+    @Mock
+    private Authentication authentication;
+
+    @Mock
+    private ClearanceBatch batch;
+
+    @Mock
+    private AccessPolicy<TestClearance> foo, bar;
+
+    @Mock
+    private TestClearance clearance;
+
+    @Mock
+    private Prefetch prefetch;
+
+    @Mock
+    private Future<?> task;
+
+    private BatchPendingClearance<TestClearance> fixture;
+
+    @BeforeEach
+    void setup() {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        fixture = new BatchPendingClearance<>(batch, 2, List.of(foo, bar), prefetch);
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void get(boolean nullable) {
+        when(batch.get(2, authentication)).thenReturn(clearance);
+        assertThat(fixture.get(nullable)).isEqualTo(clearance);
+        var inOrder = inOrder(prefetch, foo, bar);
+        inOrder.verify(prefetch).start(clearance);
+        inOrder.verify(foo).check(clearance);
+        inOrder.verify(bar).check(clearance);
+        verify(batch, never()).deny(anyInt(), any());
+    }
+
+    @Test
+    void get_WhenAPolicyDeniesAccess_ThenHandlesTheDenial() {
+        var e = new RuntimeException();
+        when(batch.get(2, authentication)).thenReturn(clearance);
+        when(bar.check(clearance)).thenReturn(() -> e);
+        doReturn(List.of(task)).when(prefetch).start(clearance);
+        assertThat(fixture.get(true)).isNull();
+        assertThatThrownBy(() -> fixture.get(false)).isEqualTo(e);
+        verify(task, times(2)).cancel(true);
+        verify(batch, times(2)).deny(2, clearance);
+    }
+
+}
@@ -5,7 +5,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
@@ -34,11 +33,11 @@ class BeanCacheTest {
     @Mock
     private ApplicationContext applicationContext;
 
-    @InjectMocks
     private BeanCache fixture;
 
     @BeforeEach
     void setup() {
+        fixture = new BeanCache(applicationContext, CachePolicy.DEFAULT);
         when(applicationContext.getBeanProvider(any(ResolvableType.class))).then(invocation -> {
             assertThat(invocation.<ResolvableType>getArgument(0).toClass()).isEqualTo(Something.class);
             return objectProvider;
@@ -0,0 +1,48 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.core.ResolvableType;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BeanReferenceTest {
+
+    private interface SomeBean {}
+
+    private final ResolvableType type = ResolvableType.forClass(SomeBean.class);
+
+    @Mock
+    private SomeBean someBean;
+
+    @Mock
+    private Cache<ResolvableType, Object> beanCache;
+
+    @Test
+    void get() {
+        when(beanCache.get(type)).thenReturn(someBean);
+        var fixture = new BeanReference(beanCache, type);
+        verify(beanCache).get(type);
+        assertThat(fixture.type()).isEqualTo(type);
+        assertThat(fixture.get()).isSameAs(someBean);
+        assertThat(fixture.get()).isSameAs(someBean);
+        verifyNoMoreInteractions(beanCache);
+    }
+
+    @Test
+    void get_WhenTheBeanIsMissing_ThenFailsOnUse() {
+        var exception = new NoSuchBeanDefinitionException(type);
+        when(beanCache.get(type)).thenThrow(exception).thenThrow(exception).thenReturn(someBean);
+        var fixture = new BeanReference(beanCache, type);
+        assertThatThrownBy(fixture::get).isSameAs(exception);
+        assertThat(fixture.get()).isSameAs(someBean);
+        assertThat(fixture.get()).isSameAs(someBean);
+        verify(beanCache, times(3)).get(type);
+    }
+
+}
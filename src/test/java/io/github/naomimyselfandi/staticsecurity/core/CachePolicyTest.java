@@ -0,0 +1,38 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CachePolicyTest {
+
+    @ParameterizedTest
+    @EnumSource(CachePolicy.Eviction.class)
+    void create(CachePolicy.Eviction eviction) {
+        var calculated = new ArrayList<Integer>();
+        var fixture = new CachePolicy(1, eviction).<Integer, Integer>create(input -> {
+            calculated.add(input);
+            return -input;
+        });
+        assertThat(fixture.get(1)).isEqualTo(-1);
+        assertThat(fixture.get(1)).isEqualTo(-1);
+        assertThat(fixture.get(2)).isEqualTo(-2);
+        assertThat(fixture.get(1)).isEqualTo(-1);
+        var expected = (eviction == CachePolicy.Eviction.NONE) ? List.of(1, 2) : List.of(1, 2, 1);
+        assertThat(calculated).isEqualTo(expected);
+        assertThat(fixture.evictions()).isEqualTo(eviction == CachePolicy.Eviction.NONE ? 0 : 2);
+    }
+
+    @Test
+    void whenTheCapacityIsNegative_ThenThrows() {
+        assertThatThrownBy(() -> new CachePolicy(-1, CachePolicy.Eviction.CLOCK))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cache capacity must not be negative.");
+    }
+
+}
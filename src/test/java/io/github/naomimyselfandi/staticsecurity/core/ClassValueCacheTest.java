@@ -0,0 +1,57 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.CacheStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClassValueCacheTest {
+
+    private final List<Class<?>> calculated = new ArrayList<>();
+
+    private class TestCache extends ClassValueCache<String> {
+
+        @Override
+        String calculate(Class<?> input) {
+            calculated.add(input);
+            return input.getSimpleName();
+        }
+
+    }
+
+    private final TestCache fixture = new TestCache();
+
+    @Test
+    void get() {
+        assertThat(fixture.get(String.class)).isEqualTo("String");
+        assertThat(fixture.get(String.class)).isEqualTo("String");
+        assertThat(fixture.get(Integer.class)).isEqualTo("Integer");
+        assertThat(fixture.get(Integer.class)).isEqualTo("Integer");
+        assertThat(calculated).isEqualTo(List.of(String.class, Integer.class));
+    }
+
+    @Test
+    void statistics() {
+        fixture.get(String.class);
+        fixture.get(String.class);
+        fixture.get(String.class);
+        fixture.get(Integer.class);
+        assertThat(fixture.statistics())
+                .returns(2L, CacheStatistics::hits)
+                .returns(2L, CacheStatistics::misses)
+                .returns(0L, CacheStatistics::evictions)
+                .extracting(CacheStatistics::computeTime)
+                .isNotNull()
+                .satisfies(it -> assertThat(it).isGreaterThanOrEqualTo(Duration.ZERO));
+    }
+
+    @Test
+    void name() {
+        assertThat(fixture.name()).isEqualTo("testCache");
+    }
+
+}
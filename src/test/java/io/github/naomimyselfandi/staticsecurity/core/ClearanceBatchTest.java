@@ -0,0 +1,161 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ResolvableType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClearanceBatchTest {
+
+    private static final AtomicInteger LOADS = new AtomicInteger();
+
+    private static final List<List<Integer>> BATCHES = new CopyOnWriteArrayList<>();
+
+    @SuppressWarnings("unused")
+    private interface TestClearance extends Clearance {
+
+        int getId();
+
+        @Helper(Helper.Type.CACHED)
+        @Batch("labels")
+        default String label() {
+            return "single " + getId();
+        }
+
+        @Helper(Helper.Type.DIRECT)
+        default List<String> labels(List<TestClearance> batch) {
+            LOADS.incrementAndGet();
+            BATCHES.add(batch.stream().map(TestClearance::getId).toList());
+            return batch.stream().map(it -> "batch " + it.getId()).toList();
+        }
+
+    }
+
+    @Mock
+    private Cache<ResolvableType, Object> beanCache;
+
+    @Mock
+    private SharedHelperResolver sharedHelperResolver;
+
+    private final TestingAuthenticationToken alice = new TestingAuthenticationToken("alice", null);
+
+    private ClearanceModel model;
+
+    private ClearanceLayout layout;
+
+    private ClearanceBatch fixture;
+
+    @BeforeEach
+    void setup() {
+        LOADS.set(0);
+        BATCHES.clear();
+        layout = new ClearanceLayout(new PropertyCache(mock(GeneratedClearanceIndex.class)).get(TestClearance.class));
+        model = new ProxyClearanceModel(TestClearance.class, layout, beanCache, sharedHelperResolver, false);
+        fixture = new ClearanceBatch(model, List.of(data(1), data(2), data(3)));
+    }
+
+    @Test
+    void get() {
+        var first = (TestClearance) fixture.get(0, alice);
+        assertThat(fixture.get(0, alice)).isSameAs(first);
+        assertThat(first.getId()).isEqualTo(1);
+        assertThat(((TestClearance) fixture.get(2, alice)).getId()).isEqualTo(3);
+        assertThat(first.__auth__()).isSameAs(alice);
+    }
+
+    @Test
+    void get_LoadsBatchedHelpersOnce() {
+        var clearances = List.of(
+                (TestClearance) fixture.get(0, alice),
+                (TestClearance) fixture.get(1, alice),
+                (TestClearance) fixture.get(2, alice));
+        assertThat(clearances.get(1).label()).isEqualTo("batch 2");
+        assertThat(clearances.get(0).label()).isEqualTo("batch 1");
+        assertThat(clearances.get(2).label()).isEqualTo("batch 3");
+        assertThat(clearances.get(2).label()).isEqualTo("batch 3");
+        assertThat(LOADS).hasValue(1);
+    }
+
+    @Test
+    void get_WhenTheModelIsGenerated_ThenLoadsBatchedHelpersOnce() {
+        model = GeneratedClearanceModel
+                .generate(TestClearance.class, layout, beanCache, sharedHelperResolver, false)
+                .orElseThrow();
+        fixture = new ClearanceBatch(model, List.of(data(1), data(2), data(3)));
+        var first = (TestClearance) fixture.get(0, alice);
+        var second = (TestClearance) fixture.get(1, alice);
+        assertThat(first).isInstanceOf(GeneratedClearance.class);
+        assertThat(second.label()).isEqualTo("batch 2");
+        assertThat(first.label()).isEqualTo("batch 1");
+        assertThat(BATCHES).containsExactly(List.of(1, 2, 3));
+    }
+
+    @Test
+    void get_WhenAMemberWasDenied_ThenLeavesItOutOfTheBatch() {
+        var clearances = List.of(
+                (TestClearance) fixture.get(0, alice),
+                (TestClearance) fixture.get(1, alice),
+                (TestClearance) fixture.get(2, alice));
+        fixture.deny(1, clearances.get(1));
+        assertThat(clearances.get(0).label()).isEqualTo("batch 1");
+        assertThat(clearances.get(2).label()).isEqualTo("batch 3");
+        assertThat(BATCHES).containsExactly(List.of(1, 3));
+        assertThat(clearances.get(1).label()).isEqualTo("batch 2");
+        assertThat(BATCHES).containsExactly(List.of(1, 3), List.of(2));
+    }
+
+    @Test
+    void get_WhenADeniedMemberCallsTheHelper_ThenDoesNotLoadTheBatch() {
+        var first = (TestClearance) fixture.get(0, alice);
+        var second = (TestClearance) fixture.get(1, alice);
+        fixture.deny(0, first);
+        assertThat(first.label()).isEqualTo("batch 1");
+        assertThat(BATCHES).containsExactly(List.of(1));
+        assertThat(second.label()).isEqualTo("batch 2");
+        assertThat(BATCHES).containsExactly(List.of(1), List.of(2, 3));
+    }
+
+    @Test
+    void deny_WhenTheClearanceIsNotTheMember_ThenIgnoresIt() {
+        var first = (TestClearance) fixture.get(0, alice);
+        var other = fixture.get(1, new TestingAuthenticationToken("bob", null));
+        fixture.deny(1, other);
+        assertThat(first.label()).isEqualTo("batch 1");
+        assertThat(BATCHES).containsExactly(List.of(1, 2, 3));
+    }
+
+    @Test
+    void get_WhenTheUserDiffers_ThenCreatesAnUnbatchedClearance() {
+        var bob = new TestingAuthenticationToken("bob", null);
+        var first = (TestClearance) fixture.get(0, alice);
+        var other = (TestClearance) fixture.get(0, bob);
+        assertThat(other).isNotSameAs(first).returns(bob, Clearance::__auth__);
+        assertThat(other.label()).isEqualTo("single 1");
+        assertThat(LOADS).hasValue(0);
+    }
+
+    @Test
+    void get_WhenTheClearanceIsNotInABatch_ThenCallsTheHelperDirectly() {
+        var clearance = (TestClearance) model.create(alice, data(1));
+        assertThat(clearance.label()).isEqualTo("single 1");
+        assertThat(LOADS).hasValue(0);
+    }
+
+    private ClearanceData data(int id) {
+        return ClearanceData.of(layout, Map.of("id", id));
+    }
+
+}
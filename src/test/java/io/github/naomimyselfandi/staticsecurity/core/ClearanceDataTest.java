@@ -0,0 +1,175 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClearanceDataTest {
+
+    @Mock
+    private Property foo, bar, baz;
+
+    private ClearanceLayout layout;
+
+    private ClearanceData fixture;
+
+    @BeforeEach
+    void setup() {
+        when(foo.name()).thenReturn("foo");
+        when(bar.name()).thenReturn("bar");
+        when(baz.name()).thenReturn("baz");
+        layout = new ClearanceLayout(List.of(foo, bar, baz));
+        fixture = new ClearanceData(layout, new Object[]{"x", null, 42});
+    }
+
+    @Test
+    void get() {
+        assertThat(fixture.get(0)).isEqualTo("x");
+        assertThat(fixture.get(1)).isNull();
+        assertThat(fixture.get(2)).isEqualTo(42);
+        assertThat(fixture.get(-1)).isNull();
+        assertThat(fixture.get("foo")).isEqualTo("x");
+        assertThat(fixture.get("bar")).isNull();
+        assertThat(fixture.get("qux")).isNull();
+    }
+
+    @Test
+    void containsKey() {
+        assertThat(fixture).containsKey("foo").containsKey("baz").doesNotContainKey("bar").doesNotContainKey("qux");
+    }
+
+    @Test
+    void size() {
+        assertThat(fixture).hasSize(2);
+    }
+
+    @Test
+    void entrySet() {
+        assertThat(fixture.entrySet()).containsExactly(Map.entry("foo", "x"), Map.entry("baz", 42));
+        assertThat(fixture).isEqualTo(Map.of("foo", "x", "baz", 42)).hasSameHashCodeAs(Map.of("foo", "x", "baz", 42));
+    }
+
+    @Test
+    void entrySet_IsReadOnly() {
+        assertThatThrownBy(() -> fixture.put("bar", "y")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> fixture.entrySet().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void of() {
+        var data = ClearanceData.of(layout, Map.of("bar", "y", "qux", "ignored"));
+        assertThat(data).isEqualTo(Map.of("bar", "y"));
+        assertThat(data.layout()).isSameAs(layout);
+        assertThat(data.get(1)).isEqualTo("y");
+    }
+
+    @Test
+    void withLayout() {
+        var other = mock(Property.class);
+        when(other.name()).thenReturn("baz");
+        var otherLayout = new ClearanceLayout(List.of(other));
+        assertThat(fixture.withLayout(layout)).isSameAs(fixture);
+        var relaidOut = fixture.withLayout(otherLayout);
+        assertThat(relaidOut).isEqualTo(Map.of("baz", 42));
+        assertThat(relaidOut.layout()).isSameAs(otherLayout);
+    }
+
+    @Test
+    void testEquals() {
+        assertThat(fixture)
+                .isEqualTo(new ClearanceData(layout, new Object[]{"x", null, 42}))
+                .hasSameHashCodeAs(new ClearanceData(layout, new Object[]{"x", null, 42}))
+                .isNotEqualTo(new ClearanceData(layout, new Object[]{"x", null, 43}))
+                .isNotEqualTo(new ClearanceData(layout, new Object[]{"x", "y", 42}))
+                .isEqualTo(new ClearanceData(new ClearanceLayout(List.of(baz, foo)), new Object[]{42, "x"}));
+    }
+
+    @Test
+    void packed() {
+        var layout = new ClearanceLayout(List.of(
+                property("id", long.class),
+                property("flag", boolean.class),
+                property("score", double.class),
+                property("rank", OptionalInt.class),
+                property("limit", OptionalLong.class),
+                property("count", int.class)));
+        var packed = new long[]{1234567890123L, 1, Double.doubleToLongBits(2.5), 3, 0, 0};
+        var data = new ClearanceData(layout, new Object[]{
+                ClearanceData.PACKED,
+                ClearanceData.PACKED,
+                ClearanceData.PACKED,
+                ClearanceData.PACKED,
+                OptionalLong.empty(),
+                null}, packed);
+        assertThat(data.isPacked(0)).isTrue();
+        assertThat(data.getPacked(0)).isEqualTo(1234567890123L);
+        assertThat(data.isPacked(4)).isFalse();
+        assertThat(data.isPacked(5)).isFalse();
+        assertThat(data.isPacked(-1)).isFalse();
+        var expected = Map.of(
+                "id", 1234567890123L,
+                "flag", true,
+                "score", 2.5,
+                "rank", OptionalInt.of(3),
+                "limit", OptionalLong.empty());
+        assertThat(data)
+                .isEqualTo(ClearanceData.of(layout, expected))
+                .isNotEqualTo(ClearanceData.of(layout, Map.of("id", 1L)));
+        assertThat(ClearanceData.of(layout, expected)).isEqualTo(data);
+        assertThat(data.get(3)).isEqualTo(OptionalInt.of(3)).isSameAs(data.get(3));
+        assertThat(data.isPacked(3)).isFalse();
+        assertThat(data.get(5)).isNull();
+        assertThat(data).isEqualTo(expected);
+    }
+
+    @Test
+    void of_KeepsValuesBoxed() {
+        var layout = new ClearanceLayout(List.of(property("id", long.class), property("count", int.class)));
+        var id = Long.valueOf(1234567890123L);
+        var data = ClearanceData.of(layout, Map.of("id", id));
+        assertThat(data.isPacked(0)).isFalse();
+        assertThat(data.get(0)).isSameAs(id);
+        assertThat(data.get(1)).isNull();
+    }
+
+    @Test
+    void packed_WhenTheValueIsAlreadyPacked_ThenUsesIt() {
+        var layout = new ClearanceLayout(List.of(property("count", int.class), property("name", String.class)));
+        var packed = new long[]{42, 0};
+        var data = new ClearanceData(layout, new Object[]{ClearanceData.PACKED, "x"}, packed);
+        assertThat(data.isPacked(0)).isTrue();
+        assertThat(data.getPacked(0)).isEqualTo(42L);
+        assertThat(data)
+                .hasSize(2)
+                .isEqualTo(ClearanceData.of(layout, Map.of("count", 42, "name", "x")));
+    }
+
+    @Test
+    void packed_WhenTheValueHasTheWrongType_ThenStoresItAsIs() {
+        var layout = new ClearanceLayout(List.of(property("id", long.class)));
+        var data = ClearanceData.of(layout, Map.of("id", "x"));
+        assertThat(data.isPacked(0)).isFalse();
+        assertThat(data.get(0)).isEqualTo("x");
+    }
+
+    private static Property property(String name, Class<?> type) {
+        var property = mock(Property.class);
+        when(property.name()).thenReturn(name);
+        when(property.type()).thenReturn(TypeDescriptor.valueOf(type));
+        return property;
+    }
+
+}
@@ -0,0 +1,149 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.core.ClearanceDispatchTable.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.Optional;
+
+import static io.github.naomimyselfandi.staticsecurity.core.ClearanceDispatchTable.Kind.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ClearanceDispatchTableTest {
+
+    private interface SomeBean {}
+
+    @SuppressWarnings("unused")
+    private interface TestClearance extends Clearance {
+
+        Object getRequired();
+
+        Optional<Object> getOptional();
+
+        default Object getDefault() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.DIRECT)
+        default Object direct() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        default Object cached(int parameter) {
+            return fail();
+        }
+
+        @Helper(Helper.Type.SPRING)
+        SomeBean someBean();
+
+        void notHelper();
+
+        void __auth__(Object parameter);
+
+    }
+
+    private final SomeBean someBean = mock(SomeBean.class);
+
+    private Cache<ResolvableType, Object> beanCache;
+
+    private final SharedHelperResolver sharedHelperResolver = mock(SharedHelperResolver.class);
+
+    private ClearanceLayout layout;
+
+    private ClearanceDispatchTable fixture;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        beanCache = mock(Cache.class);
+        when(beanCache.get(any())).thenReturn(someBean);
+        layout = new ClearanceLayout(new PropertyCache(mock(GeneratedClearanceIndex.class)).get(TestClearance.class));
+        fixture = new ClearanceDispatchTable(TestClearance.class, layout, beanCache, sharedHelperResolver);
+    }
+
+    @Test
+    void layout() {
+        assertThat(fixture.layout()).isSameAs(layout);
+    }
+
+    @Test
+    void hasCachedHelpers() {
+        interface Other extends Clearance {}
+        assertThat(fixture.hasCachedHelpers()).isTrue();
+        assertThat(new ClearanceDispatchTable(Other.class, layout, beanCache, sharedHelperResolver).hasCachedHelpers()).isFalse();
+    }
+
+    @Test
+    void get() throws NoSuchMethodException {
+        var type = TestClearance.class;
+        var bean = ResolvableType.forMethodReturnType(type.getMethod("someBean"));
+        assertThat(fixture.get(Object.class.getMethod("equals", Object.class))).isEqualTo(entry(EQUALS));
+        assertThat(fixture.get(Object.class.getMethod("hashCode"))).isEqualTo(entry(HASH_CODE));
+        assertThat(fixture.get(Object.class.getMethod("toString"))).isEqualTo(entry(TO_STRING));
+        assertThat(fixture.get(type.getMethod("getRequired")))
+                .isEqualTo(new Entry(PROPERTY, layout.slotOf("required"), null, null, null));
+        assertThat(fixture.get(type.getMethod("getOptional")))
+                .isEqualTo(new Entry(PROPERTY, layout.slotOf("optional"), Optional.empty(), null, null));
+        assertThat(fixture.get(type.getMethod("getDefault")))
+                .returns(DEFAULT_PROPERTY, Entry::kind)
+                .returns(layout.slotOf("default"), Entry::slot)
+                .extracting(Entry::defaultMethod)
+                .isNotNull();
+        assertThat(fixture.get(type.getMethod("__auth__"))).isEqualTo(entry(AUTH));
+        assertThat(fixture.get(type.getMethod("__data__"))).isEqualTo(entry(DATA));
+        assertThat(fixture.get(type.getMethod("direct")))
+                .returns(DIRECT, Entry::kind)
+                .extracting(Entry::defaultMethod)
+                .isNotNull();
+        assertThat(fixture.get(type.getMethod("cached", int.class)))
+                .returns(CACHED, Entry::kind)
+                .extracting(Entry::defaultMethod)
+                .isNotNull();
+        assertThat(fixture.get(type.getMethod("someBean")))
+                .returns(SPRING, Entry::kind)
+                .extracting(Entry::bean)
+                .returns(bean, BeanReference::type)
+                .returns(someBean, BeanReference::get);
+        assertThat(fixture.get(type.getMethod("notHelper"))).isEqualTo(entry(UNSUPPORTED));
+        assertThat(fixture.get(type.getMethod("__auth__", Object.class))).isEqualTo(entry(UNSUPPORTED));
+    }
+
+    @Test
+    void get_WhenTheMethodIsNotInTheTable_ThenComputesAnEntry() throws NoSuchMethodException {
+        interface Other extends Clearance {
+            Object getValue();
+        }
+        assertThat(fixture.get(Other.class.getMethod("getValue"))).isEqualTo(new Entry(PROPERTY, -1, null, null, null));
+    }
+
+    @Test
+    void get_DefaultMethod() throws Throwable {
+        var loader = getClass().getClassLoader();
+        var clearance = Proxy.newProxyInstance(loader, new Class<?>[]{TestClearance.class}, (p, m, a) -> null);
+        var handle = fixture.get(TestClearance.class.getMethod("direct")).defaultMethod();
+        assertThat(handle).isNotNull();
+        assertThatThrownBy(() -> {
+            var ignored = (Object) handle.invokeExact(clearance, new Object[0]);
+        }).isInstanceOf(AssertionError.class);
+    }
+
+    private static Entry entry(ClearanceDispatchTable.Kind kind) {
+        return new Entry(kind, -1, null, null, null);
+    }
+
+    @Test
+    void get_ResolvesBeansOnce() throws NoSuchMethodException {
+        var method = TestClearance.class.getMethod("someBean");
+        var bean = Objects.requireNonNull(fixture.get(method).bean());
+        assertThat(bean.get()).isSameAs(someBean);
+        assertThat(bean.get()).isSameAs(someBean);
+        verify(beanCache).get(ResolvableType.forMethodReturnType(method));
+    }
+
+}
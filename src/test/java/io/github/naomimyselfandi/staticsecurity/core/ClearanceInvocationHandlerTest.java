@@ -5,11 +5,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
 import org.springframework.core.ResolvableType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 
 import java.lang.reflect.Proxy;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -69,12 +73,27 @@ class ClearanceInvocationHandlerTest {
 
     }
 
+    private interface SharedClearance extends Clearance {
+
+        Object getId();
+
+        @Helper(Helper.Type.CACHED)
+        @SharedCache(value = "shared", key = "id")
+        default UUID shared() {
+            return UUID.randomUUID();
+        }
+
+    }
+
     @Mock
     private Authentication auth;
 
     @Mock
     private Cache<ResolvableType, Object> beans;
 
+    @Mock
+    private SharedHelperResolver sharedHelperResolver;
+
     @Test
     void invoke() {
         when(beans.get(any())).then(invocation -> {
@@ -88,7 +107,10 @@ class ClearanceInvocationHandlerTest {
         data.put("optional", optional);
         var loader = getClass().getClassLoader();
         var interfaces = new Class<?>[]{TestClearance.class};
-        var handler = new ClearanceInvocationHandler(TestClearance.class, auth, data, beans);
+        var layout = new ClearanceLayout(new PropertyCache(mock(GeneratedClearanceIndex.class)).get(TestClearance.class));
+        var dispatchTable = new ClearanceDispatchTable(TestClearance.class, layout, beans, sharedHelperResolver);
+        var clearanceData = ClearanceData.of(layout, data);
+        var handler = new ClearanceInvocationHandler(TestClearance.class, dispatchTable, auth, clearanceData, false, null);
         var clearance = (TestClearance) Proxy.newProxyInstance(loader, interfaces, handler);
         assertThat(clearance)
                 .isEqualTo(clearance)
@@ -125,4 +147,48 @@ class ClearanceInvocationHandlerTest {
         assertThat(clearance.string(1)).isNotEqualTo(clearance.string(2));
     }
 
+    @Test
+    void invoke_ValueEquality() {
+        var layout = new ClearanceLayout(new PropertyCache(mock(GeneratedClearanceIndex.class)).get(TestClearance.class));
+        var dispatchTable = new ClearanceDispatchTable(TestClearance.class, layout, beans, sharedHelperResolver);
+        var required = new Object();
+        var clearance = create(dispatchTable, new TestingAuthenticationToken("alice", "x"), required, true);
+        assertThat(clearance)
+                .isEqualTo(create(dispatchTable, new TestingAuthenticationToken("alice", "y"), required, true))
+                .hasSameHashCodeAs(create(dispatchTable, new TestingAuthenticationToken("alice", "y"), required, true))
+                .isNotEqualTo(create(dispatchTable, new TestingAuthenticationToken("bob", "x"), required, true))
+                .isNotEqualTo(create(dispatchTable, new TestingAuthenticationToken("alice", "x"), new Object(), true))
+                .isNotEqualTo(create(dispatchTable, new TestingAuthenticationToken("alice", "x"), required, false))
+                .isNotEqualTo(mock(TestClearance.class))
+                .isNotEqualTo(null);
+        assertThat(create(dispatchTable, new TestingAuthenticationToken("alice", "x"), required, false))
+                .isNotEqualTo(clearance)
+                .isNotEqualTo(create(dispatchTable, new TestingAuthenticationToken("alice", "x"), required, false));
+    }
+
+    private TestClearance create(ClearanceDispatchTable dispatchTable, Authentication auth, Object required, boolean valueEquality) {
+        var data = ClearanceData.of(dispatchTable.layout(), Map.of("required", required));
+        var handler = new ClearanceInvocationHandler(TestClearance.class, dispatchTable, auth, data, valueEquality, null);
+        var loader = getClass().getClassLoader();
+        return (TestClearance) Proxy.newProxyInstance(loader, new Class<?>[]{TestClearance.class}, handler);
+    }
+
+    @Test
+    void invoke_SharedCachedHelper() {
+        var resolver = new SharedHelperResolver(new StaticListableBeanFactory().getBeanProvider(CacheManager.class));
+        var layout = new ClearanceLayout(new PropertyCache(mock(GeneratedClearanceIndex.class)).get(SharedClearance.class));
+        var dispatchTable = new ClearanceDispatchTable(SharedClearance.class, layout, beans, resolver);
+        var loader = getClass().getClassLoader();
+        var interfaces = new Class<?>[]{SharedClearance.class};
+        var clearances = Stream.of(1, 1, 2).map(id -> {
+            var data = ClearanceData.of(layout, Map.of("id", id));
+            var handler = new ClearanceInvocationHandler(SharedClearance.class, dispatchTable, auth, data, false, null);
+            return (SharedClearance) Proxy.newProxyInstance(loader, interfaces, handler);
+        }).toList();
+        assertThat(clearances.get(0).shared())
+                .isEqualTo(clearances.get(0).shared())
+                .isEqualTo(clearances.get(1).shared())
+                .isNotEqualTo(clearances.get(2).shared());
+    }
+
 }
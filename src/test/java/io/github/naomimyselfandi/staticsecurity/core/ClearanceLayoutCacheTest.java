@@ -0,0 +1,39 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClearanceLayoutCacheTest {
+
+    private interface TestClearance extends Clearance {}
+
+    @Mock
+    private Property property;
+
+    @Mock
+    private Cache<Class<?>, List<Property>> propertyCache;
+
+    @InjectMocks
+    private ClearanceLayoutCache fixture;
+
+    @Test
+    void calculate() {
+        when(property.name()).thenReturn("foo");
+        when(propertyCache.get(TestClearance.class)).thenReturn(List.of(property));
+        assertThat(fixture.calculate(TestClearance.class))
+                .returns(List.of(property), ClearanceLayout::properties)
+                .returns(0, it -> it.slotOf("foo"));
+    }
+
+}
@@ -0,0 +1,117 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClearanceLayoutTest {
+
+    @Mock
+    private Property foo, bar, isFoo;
+
+    private ClearanceLayout fixture;
+
+    @BeforeEach
+    void setup() {
+        when(foo.name()).thenReturn("foo");
+        when(bar.name()).thenReturn("bar");
+        when(isFoo.name()).thenReturn("foo");
+        fixture = new ClearanceLayout(List.of(foo, bar, isFoo));
+    }
+
+    @Test
+    void properties() {
+        assertThat(fixture.properties()).containsExactly(foo, bar, isFoo);
+    }
+
+    @Test
+    void size() {
+        assertThat(fixture.size()).isEqualTo(2);
+    }
+
+    @Test
+    void slot() {
+        assertThat(fixture.slot(0)).isEqualTo(0);
+        assertThat(fixture.slot(1)).isEqualTo(1);
+        assertThat(fixture.slot(2)).isEqualTo(0);
+    }
+
+    @Test
+    void name() {
+        assertThat(fixture.name(0)).isEqualTo("foo");
+        assertThat(fixture.name(1)).isEqualTo("bar");
+    }
+
+    @Test
+    void slotOf() {
+        assertThat(fixture.slotOf("foo")).isEqualTo(0);
+        assertThat(fixture.slotOf("bar")).isEqualTo(1);
+        assertThat(fixture.slotOf("baz")).isEqualTo(-1);
+        assertThat(fixture.slotOf(new Object())).isEqualTo(-1);
+    }
+
+    @Test
+    void isCompatibleWith() {
+        var other = mock(Property.class);
+        when(other.name()).thenReturn("bar");
+        assertThat(fixture.isCompatibleWith(fixture)).isTrue();
+        assertThat(fixture.isCompatibleWith(new ClearanceLayout(List.of(isFoo, bar)))).isTrue();
+        assertThat(fixture.isCompatibleWith(new ClearanceLayout(List.of(other, foo)))).isFalse();
+        assertThat(fixture.isCompatibleWith(new ClearanceLayout(List.of(foo)))).isFalse();
+    }
+
+    @Test
+    void packing() {
+        var id = property("id", long.class);
+        var name = property("name", String.class);
+        var rank = property("rank", OptionalInt.class);
+        var conflicting = property("id", int.class);
+        assertThat(fixture.isPacked()).isFalse();
+        assertThat(fixture.packing(0)).isNull();
+        var layout = new ClearanceLayout(List.of(id, name, rank));
+        assertThat(layout.isPacked()).isTrue();
+        assertThat(layout.packing(0)).isEqualTo(ClearanceLayout.Packing.LONG);
+        assertThat(layout.packing(1)).isNull();
+        assertThat(layout.packing(2)).isEqualTo(ClearanceLayout.Packing.OPTIONAL_INT);
+        assertThat(new ClearanceLayout(List.of(id, conflicting)).packing(0)).isNull();
+        assertThat(layout.isCompatibleWith(new ClearanceLayout(List.of(conflicting, name, rank)))).isFalse();
+    }
+
+    @Test
+    void packing_PackAndUnpack() {
+        assertThat(ClearanceLayout.Packing.INT.unpack(ClearanceLayout.Packing.INT.pack(-5))).isEqualTo(-5);
+        assertThat(ClearanceLayout.Packing.LONG.unpack(ClearanceLayout.Packing.LONG.pack(Long.MIN_VALUE))).isEqualTo(Long.MIN_VALUE);
+        assertThat(ClearanceLayout.Packing.BOOLEAN.unpack(ClearanceLayout.Packing.BOOLEAN.pack(false))).isEqualTo(false);
+        assertThat(ClearanceLayout.Packing.DOUBLE.unpack(ClearanceLayout.Packing.DOUBLE.pack(-0.5))).isEqualTo(-0.5);
+        assertThat(ClearanceLayout.Packing.OPTIONAL_INT.unpack(ClearanceLayout.Packing.OPTIONAL_INT.pack(OptionalInt.of(7))))
+                .isEqualTo(OptionalInt.of(7));
+        assertThat(ClearanceLayout.Packing.OPTIONAL_LONG.unpack(ClearanceLayout.Packing.OPTIONAL_LONG.pack(OptionalLong.of(7))))
+                .isEqualTo(OptionalLong.of(7));
+        assertThat(ClearanceLayout.Packing.OPTIONAL_DOUBLE.unpack(ClearanceLayout.Packing.OPTIONAL_DOUBLE.pack(OptionalDouble.of(7))))
+                .isEqualTo(OptionalDouble.of(7));
+        assertThat(ClearanceLayout.Packing.INT.canPack(1)).isTrue();
+        assertThat(ClearanceLayout.Packing.INT.canPack(1L)).isFalse();
+        assertThat(ClearanceLayout.Packing.OPTIONAL_INT.canPack(OptionalInt.empty())).isFalse();
+    }
+
+    private static Property property(String name, Class<?> type) {
+        var property = mock(Property.class);
+        when(property.name()).thenReturn(name);
+        when(property.type()).thenReturn(TypeDescriptor.valueOf(type));
+        return property;
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClearanceModelCacheTest {
+
+    public interface TestClearance extends Clearance {
+        String getName();
+    }
+
+    @Clearance.ValueEquality
+    public interface ValueClearance extends Clearance {}
+
+    @Clearance.ValueEquality(false)
+    public interface IdentityClearance extends Clearance {}
+
+    @SuppressWarnings("unused")
+    public static final class Implementation extends GeneratedClearance implements TestClearance {
+
+        public static final Object[][] PROPERTIES = {{"name", "getName", true}};
+
+        public static final Object[][] METHODS = {};
+
+        private final String p0;
+
+        public Implementation(Object model, Authentication auth, Map<String, Object> data, Object member) {
+            super(model, auth, data, member);
+            this.p0 = (String) __value__(0);
+        }
+
+        @Override
+        public String getName() {
+            return p0;
+        }
+
+    }
+
+    @Mock
+    private Cache<Class<?>, ClearanceLayout> clearanceLayoutCache;
+
+    @Mock
+    private Cache<ResolvableType, Object> beanCache;
+
+    @Mock
+    private GeneratedClearanceIndex generatedClearanceIndex;
+
+    @Mock
+    private SharedHelperResolver sharedHelperResolver;
+
+    @Mock
+    private Authentication auth;
+
+    @Test
+    void calculate_Proxy() {
+        var fixture = new ClearanceModelCache(clearanceLayoutCache, beanCache, generatedClearanceIndex, sharedHelperResolver, ClearanceModelCache.Implementation.PROXY, false);
+        var layout = new ClearanceLayout(List.of());
+        when(clearanceLayoutCache.get(TestClearance.class)).thenReturn(layout);
+        assertThat(fixture.calculate(TestClearance.class))
+                .asInstanceOf(InstanceOfAssertFactories.type(ProxyClearanceModel.class))
+                .returns(TestClearance.class, ProxyClearanceModel::type)
+                .returns(layout, it -> it.dispatchTable().layout());
+    }
+
+    @Test
+    void calculate_Generated() {
+        when(clearanceLayoutCache.get(TestClearance.class)).thenReturn(new ClearanceLayout(List.of()));
+        var fixture = new ClearanceModelCache(clearanceLayoutCache, beanCache, generatedClearanceIndex, sharedHelperResolver, ClearanceModelCache.Implementation.GENERATED, false);
+        assertThat(fixture.calculate(TestClearance.class))
+                .isInstanceOf(GeneratedClearanceModel.class)
+                .returns(TestClearance.class, it -> ((GeneratedClearanceModel) it).type);
+    }
+
+    @Test
+    void calculate_Indexed() throws NoSuchMethodException {
+        var method = TestClearance.class.getMethod("getName");
+        var property = new PropertyImpl("name", TypeDescriptor.valueOf(String.class), method, true);
+        when(generatedClearanceIndex.find(TestClearance.class)).then(invocation -> Implementation.class);
+        var layout = new ClearanceLayout(List.of(property));
+        when(clearanceLayoutCache.get(TestClearance.class)).thenReturn(layout);
+        var fixture = new ClearanceModelCache(clearanceLayoutCache, beanCache, generatedClearanceIndex, sharedHelperResolver, ClearanceModelCache.Implementation.PROXY, false);
+        var model = fixture.calculate(TestClearance.class);
+        assertThat(model.create(auth, ClearanceData.of(layout, Map.of("name", "foo"))))
+                .isExactlyInstanceOf(Implementation.class)
+                .returns("foo", it -> ((TestClearance) it).getName())
+                .returns(auth, Clearance::__auth__);
+    }
+
+    @Test
+    void calculate_ValueEquality() {
+        when(clearanceLayoutCache.get(any())).thenReturn(new ClearanceLayout(List.of()));
+        var fixture = new ClearanceModelCache(clearanceLayoutCache, beanCache, generatedClearanceIndex, sharedHelperResolver, ClearanceModelCache.Implementation.PROXY, false);
+        assertThat(fixture.calculate(TestClearance.class)).returns(false, it -> ((ProxyClearanceModel) it).valueEquality());
+        assertThat(fixture.calculate(ValueClearance.class)).returns(true, it -> ((ProxyClearanceModel) it).valueEquality());
+        assertThat(fixture.calculate(IdentityClearance.class)).returns(false, it -> ((ProxyClearanceModel) it).valueEquality());
+    }
+
+    @Test
+    void calculate_ValueEquality_Global() {
+        when(clearanceLayoutCache.get(any())).thenReturn(new ClearanceLayout(List.of()));
+        var fixture = new ClearanceModelCache(clearanceLayoutCache, beanCache, generatedClearanceIndex, sharedHelperResolver, ClearanceModelCache.Implementation.GENERATED, true);
+        assertThat(fixture.calculate(TestClearance.class)).returns(true, it -> ((GeneratedClearanceModel) it).valueEquality);
+        assertThat(fixture.calculate(ValueClearance.class)).returns(true, it -> ((GeneratedClearanceModel) it).valueEquality);
+        assertThat(fixture.calculate(IdentityClearance.class)).returns(false, it -> ((GeneratedClearanceModel) it).valueEquality);
+    }
+
+}
@@ -0,0 +1,117 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.AccessPolicy;
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClearanceWarmUpTest {
+
+    private static final String PACKAGE = "io.github.naomimyselfandi.staticsecurityintegration";
+
+    private interface Source {}
+
+    private interface TestClearance extends Clearance {}
+
+    @Mock
+    private Cache<Class<?>, List<Property>> propertyCache;
+
+    @Mock
+    private Cache<Class<?>, ClearanceLayout> clearanceLayoutCache;
+
+    @Mock
+    private Cache<Class<?>, ClearanceModel> clearanceModelCache;
+
+    @Mock
+    private Cache<Class<?>, List<? extends AccessPolicy<?>>> accessPolicyCache;
+
+    @Mock
+    private Cache<Class<?>, Prefetch> prefetchCache;
+
+    @Mock
+    private Cache<DataSourceKey, Optional<? extends DataSource<?>>> dataSourceCache;
+
+    @Test
+    void run_ScansConfiguredPackages() throws ClassNotFoundException {
+        var expected = List.of(
+                Class.forName(PACKAGE + ".DocumentRequest"),
+                Class.forName(PACKAGE + ".DocumentUpdateRequest"),
+                Class.forName(PACKAGE + ".ConversionIntegrationTest$NestedDocumentRequest"),
+                Class.forName(PACKAGE + ".JacksonIntegrationTest$Wrapped"));
+        var results = fixture(true, PACKAGE).run();
+        assertThat(results)
+                .extracting(ClearanceWarmUp.Result::name)
+                .containsExactlyInAnyOrderElementsOf(expected.stream().map(Class::getName).toList());
+        assertThat(results).allSatisfy(result -> assertThat(result.failure()).isNull());
+        for (var type : expected) {
+            verify(propertyCache).get(type);
+            verify(clearanceLayoutCache).get(type);
+            verify(clearanceModelCache).get(type);
+            verify(accessPolicyCache).get(type);
+            verify(prefetchCache).get(type);
+        }
+        verifyNoInteractions(dataSourceCache);
+    }
+
+    @Test
+    void run_WarmsUpInjectionPoints() {
+        var fixture = fixture(true);
+        fixture.register(Source.class, TestClearance.class);
+        var results = fixture.run();
+        assertThat(results).extracting(ClearanceWarmUp.Result::name).containsExactly(
+                TestClearance.class.getName(),
+                "%s from %s".formatted(TestClearance.class.getName(), Source.class.getName()));
+        verify(clearanceModelCache).get(TestClearance.class);
+        verify(dataSourceCache).get(new DataSourceKey(Source.class, TestClearance.class));
+    }
+
+    @Test
+    void run_WhenATypeFails_ThenReportsItAndContinues() {
+        var fixture = fixture(true);
+        var failure = new IllegalStateException();
+        fixture.register(Source.class, TestClearance.class);
+        when(clearanceModelCache.get(TestClearance.class)).thenThrow(failure);
+        var results = fixture.run();
+        assertThat(results).extracting(ClearanceWarmUp.Result::failure).containsExactly(failure, null);
+        verify(dataSourceCache).get(new DataSourceKey(Source.class, TestClearance.class));
+    }
+
+    @Test
+    void run_WhenDisabled_ThenDoesNothing() {
+        var fixture = fixture(false, PACKAGE);
+        fixture.register(Source.class, TestClearance.class);
+        assertThat(fixture.run()).isEmpty();
+        verifyNoInteractions(
+                propertyCache,
+                clearanceLayoutCache,
+                clearanceModelCache,
+                accessPolicyCache,
+                prefetchCache,
+                dataSourceCache);
+    }
+
+    private ClearanceWarmUp fixture(boolean enabled, String... packages) {
+        return new ClearanceWarmUp(
+                propertyCache,
+                clearanceLayoutCache,
+                clearanceModelCache,
+                accessPolicyCache,
+                prefetchCache,
+                dataSourceCache,
+                new DefaultResourceLoader(),
+                enabled,
+                packages);
+    }
+
+}
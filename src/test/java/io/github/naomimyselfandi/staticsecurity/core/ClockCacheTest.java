@@ -0,0 +1,78 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClockCacheTest {
+
+    private final List<Integer> calculated = new ArrayList<>();
+
+    @Test
+    void get() {
+        var fixture = new ClockCache<Integer, String>(2, this::calculate);
+        assertThat(fixture.get(1)).isEqualTo("1");
+        assertThat(fixture.get(1)).isEqualTo("1");
+        assertThat(fixture.get(2)).isEqualTo("2");
+        assertThat(fixture.get(2)).isEqualTo("2");
+        assertThat(calculated).isEqualTo(List.of(1, 2));
+    }
+
+    @Test
+    void get_WhenTheCacheIsFull_ThenEvictsAnEntryWhichWasNotReadAgain() {
+        var fixture = new ClockCache<Integer, String>(2, this::calculate);
+        fixture.get(1);
+        fixture.get(2);
+        fixture.get(1);
+        fixture.get(3);
+        assertThat(fixture.size()).isEqualTo(2);
+        fixture.get(1);
+        fixture.get(3);
+        assertThat(calculated).isEqualTo(List.of(1, 2, 3));
+        fixture.get(2);
+        assertThat(calculated).isEqualTo(List.of(1, 2, 3, 2));
+        assertThat(fixture.evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void get_WhenEveryEntryWasReadAgain_ThenEvictsTheOldestEntry() {
+        var fixture = new ClockCache<Integer, String>(2, this::calculate);
+        fixture.get(1);
+        fixture.get(2);
+        fixture.get(1);
+        fixture.get(2);
+        fixture.get(3);
+        assertThat(fixture.size()).isEqualTo(2);
+        fixture.get(2);
+        fixture.get(3);
+        assertThat(calculated).isEqualTo(List.of(1, 2, 3));
+    }
+
+    @Test
+    void get_WhenTheCapacityIsZero_ThenDoesNotCache() {
+        var fixture = new ClockCache<Integer, String>(0, this::calculate);
+        assertThat(fixture.get(1)).isEqualTo("1");
+        assertThat(fixture.get(1)).isEqualTo("1");
+        assertThat(fixture.size()).isZero();
+        assertThat(calculated).isEqualTo(List.of(1, 1));
+    }
+
+    @Test
+    void get_WhenTheCacheIsUnbounded_ThenNeverEvicts() {
+        var fixture = new ClockCache<Integer, String>(Integer.MAX_VALUE, this::calculate);
+        for (var i = 0; i < 1000; i++) {
+            fixture.get(i);
+        }
+        assertThat(fixture.size()).isEqualTo(1000);
+        assertThat(fixture.evictions()).isZero();
+    }
+
+    private String calculate(Integer input) {
+        calculated.add(input);
+        return input.toString();
+    }
+
+}
@@ -0,0 +1,137 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompiledDataSourceTest {
+
+    @Mock
+    private Property required, optional;
+
+    @Mock
+    private CompiledDataSource.Step<Object> requiredStep, optionalStep;
+
+    private CompiledDataSource<Object> fixture;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(required.name()).thenReturn(UUID.randomUUID().toString());
+        lenient().when(optional.name()).thenReturn(UUID.randomUUID().toString());
+        lenient().when(required.required()).thenReturn(true);
+        lenient().when(optional.required()).thenReturn(false);
+        var layout = new ClearanceLayout(List.of(optional, required));
+        var steps = layout.properties().stream().map(it -> it == required ? requiredStep : optionalStep).toList();
+        fixture = new CompiledDataSource<>(layout, steps);
+    }
+
+    @Test
+    void compile() {
+        @SuppressWarnings("unchecked")
+        var provider = (ReflectivePropertyProvider<Object>) mock(ReflectivePropertyProvider.class);
+        when(provider.compile(required)).thenReturn(requiredStep);
+        when(provider.compile(optional)).thenReturn(optionalStep);
+        assertThat(CompiledDataSource.compile(provider, fixture.layout())).isEqualTo(fixture);
+    }
+
+    @Test
+    void getData() {
+        var source = new Object();
+        var val = new Object();
+        var opt = Optional.of(new Object());
+        when(requiredStep.extract(eq(source), any())).thenReturn(val);
+        when(optionalStep.extract(eq(source), any())).thenReturn(opt);
+        assertThat(fixture.getData(source).get()).isEqualTo(Map.of(required.name(), val, optional.name(), opt));
+    }
+
+    @Test
+    void getData_WhenAnOptionalPropertyIsMissing_ThenSkipsIt() {
+        var source = new Object();
+        var val = new Object();
+        when(requiredStep.extract(eq(source), any())).thenReturn(val);
+        when(optionalStep.extract(eq(source), any())).thenReturn(null);
+        assertThat(fixture.getData(source).get()).isEqualTo(Map.of(required.name(), val));
+    }
+
+    @Test
+    void getData_WhenAStepIsPacked_ThenStoresItsValueWithoutBoxing() {
+        var count = mock(Property.class);
+        when(count.name()).thenReturn("count");
+        when(count.type()).thenReturn(TypeDescriptor.valueOf(int.class));
+        lenient().when(count.required()).thenReturn(true);
+        var layout = new ClearanceLayout(List.of(count, required));
+        var step = new CompiledDataSource.PackedStep<Object>(ClearanceLayout.Packing.INT, source -> 42);
+        var source = new Object();
+        var val = new Object();
+        when(requiredStep.extract(eq(source), any())).thenReturn(val);
+        var data = new CompiledDataSource<>(layout, List.of(step, requiredStep)).getData(source).get();
+        assertThat(data.isPacked(layout.slotOf("count"))).isTrue();
+        assertThat(data).isEqualTo(Map.of("count", 42, required.name(), val));
+    }
+
+    @Test
+    void getData_WhenAPackedStepDoesNotMatchTheStorage_ThenBoxesItsValue() {
+        var step = new CompiledDataSource.PackedStep<Object>(ClearanceLayout.Packing.BOOLEAN, source -> 1);
+        var source = new Object();
+        when(optionalStep.extract(eq(source), any())).thenReturn(null);
+        fixture = new CompiledDataSource<>(fixture.layout(), fixture.layout().properties().stream()
+                .map(it -> it == required ? step : optionalStep)
+                .toList());
+        assertThat(fixture.getData(source).get()).isEqualTo(Map.of(required.name(), true));
+    }
+
+    @Test
+    void getData_SharesUnwrappedValuesBetweenSteps() {
+        var source = new Object();
+        var unwrapCount = new AtomicInteger();
+        CompiledDataSource.Step<Object> step = (s, unwrapped) -> unwrapped.get(0);
+        var layout = fixture.layout();
+        fixture = new CompiledDataSource<>(layout, List.of(step, step), List.of(it -> unwrapCount.incrementAndGet()));
+        assertThat(fixture.getData(source).get()).isEqualTo(Map.of(optional.name(), 1, required.name(), 1));
+        assertThat(fixture.getData(source).get()).isEqualTo(Map.of(optional.name(), 2, required.name(), 2));
+    }
+
+    @Test
+    void unwrapped() {
+        var source = new Object();
+        var result = new Object();
+        var calls = new AtomicInteger();
+        var unwrapped = new CompiledDataSource.Unwrapped(source, List.of(
+                it -> it == source ? result : fail(),
+                it -> {
+                    calls.incrementAndGet();
+                    return null;
+                }));
+        assertThat(unwrapped.get(0)).isSameAs(result);
+        assertThat(unwrapped.get(1)).isNull();
+        assertThat(unwrapped.get(1)).isNull();
+        assertThat(calls).hasValue(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void getData_WhenARequiredPropertyIsMissing_ThenFails(boolean optionalPresent) {
+        var source = new Object();
+        lenient().when(optionalStep.extract(eq(source), any())).thenReturn(optionalPresent ? Optional.empty() : null);
+        when(requiredStep.extract(eq(source), any())).thenReturn(null);
+        var message = "Required property '%s' is missing or invalid.".formatted(required.name());
+        assertThat(fixture.getData(source)).isEqualTo(new DataSource.Failure(message));
+    }
+
+}
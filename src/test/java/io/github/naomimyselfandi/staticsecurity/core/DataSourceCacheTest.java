@@ -6,6 +6,7 @@ import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -31,20 +32,23 @@ class DataSourceCacheTest {
     private PropertyProvider<Source> provider;
 
     @Mock
-    private Cache<Class<?>, List<Property>> propertyCache;
+    private Cache<Class<?>, ClearanceLayout> clearanceLayoutCache;
 
     @Mock
     private Cache<Class<?>, PropertyProvider<?>> propertyProviderCache;
 
+    private ClearanceLayout layout;
+
     private DataSourceCache fixture;
 
     @BeforeEach
     void setup() {
         doReturn(provider).when(propertyProviderCache).get(Source.class);
-        when(propertyCache.get(TestClearance.class)).thenReturn(List.of(property1, property2));
         lenient().when(property1.name()).thenReturn(UUID.randomUUID().toString());
         lenient().when(property2.name()).thenReturn(UUID.randomUUID().toString());
-        fixture = new DataSourceCache(propertyCache, propertyProviderCache);
+        layout = new ClearanceLayout(List.of(property1, property2));
+        when(clearanceLayoutCache.get(TestClearance.class)).thenReturn(layout);
+        fixture = new DataSourceCache(clearanceLayoutCache, propertyProviderCache);
     }
 
     @RepeatedTest(6)
@@ -63,7 +67,7 @@ class DataSourceCacheTest {
         when(provider.canExtract(p1)).thenReturn(true);
         lenient().when(provider.canExtract(p1)).thenReturn(true);
         lenient().when(provider.canExtract(p2)).thenReturn(repetition >= 2);
-        var expected = new ExtractingDataSource<>(provider, List.of(property1, property2));
+        var expected = new ExtractingDataSource<>(provider, layout);
         assertThat(fixture.calculate(new DataSourceKey(Source.class, TestClearance.class)))
                 .map(Function.<Object>identity())
                 .contains(expected);
@@ -94,7 +98,7 @@ class DataSourceCacheTest {
         when(optionalProperty.required()).thenReturn(false);
         when(provider.canFlatten(requiredProperty)).thenReturn(true);
         lenient().when(provider.canFlatten(optionalProperty)).thenReturn(repetition > 2);
-        var expected = new FlatteningDataSource<>(provider, requiredProperty);
+        var expected = new FlatteningDataSource<>(provider, requiredProperty, layout);
         assertThat(fixture.calculate(new DataSourceKey(Source.class, TestClearance.class)))
                 .map(Function.<Object>identity())
                 .contains(expected);
@@ -112,6 +116,26 @@ class DataSourceCacheTest {
         assertThat(fixture.calculate(new DataSourceKey(Source.class, TestClearance.class))).isEmpty();
     }
 
+    @Test
+    void calculate_WhenTheProviderIsReflective_ThenCompilesAnExtractionPlan() {
+        @SuppressWarnings("unchecked")
+        var reflectiveProvider = (ReflectivePropertyProvider<Source>) mock(ReflectivePropertyProvider.class);
+        CompiledDataSource.Step<Source> step1 = (source, unwrapped) -> null;
+        CompiledDataSource.Step<Source> step2 = (source, unwrapped) -> null;
+        reset(propertyProviderCache);
+        doReturn(reflectiveProvider).when(propertyProviderCache).get(Source.class);
+        when(property1.required()).thenReturn(true);
+        when(property2.required()).thenReturn(false);
+        when(reflectiveProvider.canExtract(property1)).thenReturn(true);
+        when(reflectiveProvider.compile(property1)).thenReturn(step1);
+        when(reflectiveProvider.compile(property2)).thenReturn(step2);
+        var steps = layout.properties().stream().map(it -> it == property1 ? step1 : step2).toList();
+        var expected = new CompiledDataSource<>(layout, steps);
+        assertThat(fixture.calculate(new DataSourceKey(Source.class, TestClearance.class)))
+                .map(Function.<Object>identity())
+                .contains(expected);
+    }
+
     @RepeatedTest(2)
     void calculate_Pair(RepetitionInfo repetitionInfo) {
         var requiredProperty = (repetitionInfo.getCurrentRepetition() == 1) ? property1 : property2;
@@ -121,12 +145,22 @@ class DataSourceCacheTest {
         when(provider.canExtract(any())).thenReturn(true);
         when(provider.canFlatten(any())).thenReturn(true);
         var expected = new DataSourcePair<>(
-                new ExtractingDataSource<>(provider, List.of(property1, property2)),
-                new FlatteningDataSource<>(provider, requiredProperty)
+                new ExtractingDataSource<>(provider, layout),
+                new FlatteningDataSource<>(provider, requiredProperty, layout)
         );
         assertThat(fixture.calculate(new DataSourceKey(Source.class, TestClearance.class)))
                 .map(Function.<Object>identity())
                 .contains(expected);
     }
 
+    @Test
+    void get_ReusesDataSourcesForEachPairOfTypes() {
+        var key = new DataSourceKey(Source.class, TestClearance.class);
+        var result = fixture.get(key);
+        assertThat(result).map(Function.<Object>identity()).contains(new ExtractingDataSource<>(provider, layout));
+        assertThat(fixture.get(new DataSourceKey(Source.class, TestClearance.class))).isSameAs(result);
+        verify(propertyProviderCache).get(Source.class);
+        verify(clearanceLayoutCache).get(TestClearance.class);
+    }
+
 }
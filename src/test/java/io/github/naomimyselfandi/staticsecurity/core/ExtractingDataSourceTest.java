@@ -35,7 +35,7 @@ class ExtractingDataSourceTest {
         lenient().when(optional.name()).thenReturn(UUID.randomUUID().toString());
         lenient().when(required.required()).thenReturn(true);
         lenient().when(optional.required()).thenReturn(false);
-        fixture = new ExtractingDataSource<>(provider, List.of(optional, required));
+        fixture = new ExtractingDataSource<>(provider, new ClearanceLayout(List.of(optional, required)));
     }
 
     @Test
@@ -0,0 +1,153 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.FieldAccess;
+import io.github.naomimyselfandi.staticsecurity.Property;
+import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FieldPropertyProviderTest {
+
+    @SuppressWarnings("unused")
+    private interface TestClearance extends Clearance {
+
+        int getCount();
+
+        long getTotal();
+
+        boolean isActive();
+
+        double getScore();
+
+        String getName();
+
+        String getLabel();
+
+        long getSmall();
+
+    }
+
+    @FieldAccess
+    @SuppressWarnings("unused")
+    private static class Base {
+
+        private String name = "base";
+
+        public String getName() {
+            return "getter";
+        }
+
+    }
+
+    @SuppressWarnings("unused")
+    private static class Source extends Base {
+
+        private int count = 1;
+        private long total = 2;
+        private boolean active = true;
+        private double score = 2.5;
+        private int small = 3;
+        private static String label = "static";
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public String getLabel() {
+            return "getter";
+        }
+
+        public int getSmall() {
+            return small;
+        }
+
+    }
+
+    @Mock
+    private Cache<Class<?>, PropertyProvider<?>> propertyProviderCache;
+
+    private final Source source = new Source();
+
+    private PropertyCache propertyCache;
+
+    private FieldPropertyProvider<Source> fixture;
+
+    @BeforeEach
+    void setup() {
+        propertyCache = new PropertyCache(mock(GeneratedClearanceIndex.class));
+        var properties = propertyCache.calculate(Source.class);
+        fixture = new FieldPropertyProvider<>(Source.class, properties, new DefaultConversionService(), propertyProviderCache);
+    }
+
+    @Test
+    void fields() throws NoSuchMethodException {
+        assertThat(fixture.fields).containsOnlyKeys(
+                Source.class.getMethod("getCount"),
+                Source.class.getMethod("getTotal"),
+                Source.class.getMethod("isActive"),
+                Source.class.getMethod("getScore"),
+                Source.class.getMethod("getSmall"),
+                Source.class.getMethod("getName"));
+    }
+
+    @Test
+    void extract() {
+        assertThat(fixture.extract(source, property("count"))).isEqualTo(1);
+        assertThat(fixture.extract(source, property("name"))).isEqualTo("base");
+        assertThat(fixture.extract(source, property("label"))).isEqualTo("getter");
+        assertThat(fixture.extract(source, property("small"))).isEqualTo(3L);
+    }
+
+    @Test
+    void compile() {
+        var layout = new ClearanceLayout(propertyCache.calculate(TestClearance.class));
+        var data = CompiledDataSource.compile(fixture, layout).getData(source).get();
+        assertThat(data.isPacked(layout.slotOf("count"))).isTrue();
+        assertThat(data.isPacked(layout.slotOf("total"))).isTrue();
+        assertThat(data.isPacked(layout.slotOf("active"))).isTrue();
+        assertThat(data.isPacked(layout.slotOf("score"))).isTrue();
+        assertThat(data).isEqualTo(Map.of(
+                "count", 1,
+                "total", 2L,
+                "active", true,
+                "score", 2.5,
+                "name", "base",
+                "label", "getter",
+                "small", 3L));
+        assertThat(fixture.compile(property("count"))).isInstanceOf(CompiledDataSource.PackedStep.class);
+        assertThat(fixture.compile(property("small"))).isNotInstanceOf(CompiledDataSource.PackedStep.class);
+    }
+
+    private Property property(String name) {
+        return propertyCache
+                .calculate(TestClearance.class)
+                .stream()
+                .filter(it -> it.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+}
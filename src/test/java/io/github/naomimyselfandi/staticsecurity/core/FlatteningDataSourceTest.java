@@ -8,6 +8,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -28,7 +29,8 @@ class FlatteningDataSourceTest {
     @BeforeEach
     void setup() throws NoSuchMethodException {
         when(property.name()).thenReturn(UUID.randomUUID().toString());
-        fixture = new FlatteningDataSource<>(provider, property);
+        var layout = new ClearanceLayout(List.of(property));
+        fixture = new FlatteningDataSource<>(provider, property, layout);
     }
 
     @Test
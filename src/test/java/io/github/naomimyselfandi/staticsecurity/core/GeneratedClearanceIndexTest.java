@@ -0,0 +1,78 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.core.Authentication;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GeneratedClearanceIndexTest {
+
+    public interface TestClearance extends Clearance {}
+
+    public interface OtherClearance extends Clearance {}
+
+    public interface MissingClearance extends Clearance {}
+
+    public interface UnindexedClearance extends Clearance {}
+
+    public static final class Implementation extends GeneratedClearance implements TestClearance {
+        public Implementation(Object model, Authentication auth, Map<String, Object> data, Object member) {
+            super(model, auth, data, member);
+        }
+    }
+
+    @TempDir
+    private Path tempDir;
+
+    private GeneratedClearanceIndex fixture;
+
+    @BeforeEach
+    void setup() throws IOException {
+        var index = tempDir.resolve(GeneratedClearanceIndex.LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, """
+                # comments and blank lines are ignored
+
+                %s = %s
+                %s=%s
+                %s=com.example.DoesNotExist
+                """.formatted(
+                TestClearance.class.getName(), Implementation.class.getName(),
+                OtherClearance.class.getName(), Implementation.class.getName(),
+                MissingClearance.class.getName()));
+        var classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, getClass().getClassLoader());
+        fixture = new GeneratedClearanceIndex(new DefaultResourceLoader(classLoader));
+    }
+
+    @Test
+    void find() {
+        assertThat(fixture.find(TestClearance.class)).isEqualTo(Implementation.class);
+    }
+
+    @Test
+    void find_WhenTheImplementationIsNotASubtype_ThenNull() {
+        assertThat(fixture.find(OtherClearance.class)).isNull();
+    }
+
+    @Test
+    void find_WhenTheImplementationIsMissing_ThenNull() {
+        assertThat(fixture.find(MissingClearance.class)).isNull();
+    }
+
+    @Test
+    void find_WhenTheTypeIsNotIndexed_ThenNull() {
+        assertThat(fixture.find(UnindexedClearance.class)).isNull();
+    }
+
+}
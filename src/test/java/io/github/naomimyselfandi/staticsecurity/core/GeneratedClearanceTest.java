@@ -0,0 +1,281 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.processor.ClearanceProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.ResolvableType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("EqualsWithItself")
+class GeneratedClearanceTest {
+
+    private static final Object DEFAULT = new Object();
+
+    private interface SomeBean {}
+
+    @Mock
+    private SomeBean someBean;
+
+    private interface TestClearance extends Clearance {
+
+        Object getRequired();
+
+        int getPrimitive();
+
+        Optional<Object> getOptional();
+
+        default Object getDefault() {
+            return DEFAULT;
+        }
+
+        default long getDefaultPrimitive() {
+            return -1;
+        }
+
+        Optional<Object> getOmitted();
+
+        OptionalInt getOmittedInt();
+
+        OptionalLong getOmittedLong();
+
+        OptionalDouble getOmittedDouble();
+
+        @Helper(Helper.Type.DIRECT)
+        default UUID uuidThatChangesEachTime() {
+            return UUID.randomUUID();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        default UUID uuid() {
+            return UUID.randomUUID();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        default String string(int prefix) {
+            return "%d_%s".formatted(prefix, UUID.randomUUID());
+        }
+
+        @Helper(Helper.Type.SPRING)
+        SomeBean someBean();
+
+        void notHelper();
+
+        void __auth__(Object parameter);
+
+        void __data__(Object parameter);
+
+    }
+
+    private interface SharedClearance extends Clearance {
+
+        Object getId();
+
+        @Helper(Helper.Type.CACHED)
+        @SharedCache(value = "shared", key = "id")
+        default UUID shared() {
+            return UUID.randomUUID();
+        }
+
+    }
+
+    @Mock
+    private Authentication auth;
+
+    @Mock
+    private Cache<ResolvableType, Object> beans;
+
+    @Mock
+    private SharedHelperResolver sharedHelperResolver;
+
+    private ClearanceLayout layout;
+
+    @BeforeEach
+    void setup() {
+        layout = new ClearanceLayout(new PropertyCache(mock(GeneratedClearanceIndex.class)).get(TestClearance.class));
+    }
+
+    @Test
+    void generate() {
+        when(beans.get(any())).then(invocation -> {
+            assertThat(invocation.<ResolvableType>getArgument(0).toClass()).isEqualTo(SomeBean.class);
+            return someBean;
+        });
+        var required = new Object();
+        var optional = Optional.of(new Object());
+        var data = new HashMap<String, Object>();
+        data.put("required", required);
+        data.put("primitive", 42);
+        data.put("optional", optional);
+        var model = GeneratedClearanceModel
+                .generate(TestClearance.class, layout, beans, sharedHelperResolver, false)
+                .orElseThrow();
+        var clearance = (TestClearance) model.create(auth, ClearanceData.of(layout, data));
+        assertThat(clearance)
+                .isInstanceOf(GeneratedClearance.class)
+                .matches(it -> !Proxy.isProxyClass(it.getClass()))
+                .isEqualTo(clearance)
+                .isNotEqualTo(mock(TestClearance.class))
+                .isNotEqualTo(null)
+                .returns(System.identityHashCode(clearance), TestClearance::hashCode)
+                .hasToString("TestClearance(optional=%s, primitive=42, required=%s)", optional, required)
+                .returns(required, TestClearance::getRequired)
+                .returns(42, TestClearance::getPrimitive)
+                .returns(optional, TestClearance::getOptional)
+                .returns(Optional.empty(), TestClearance::getOmitted)
+                .returns(OptionalInt.empty(), TestClearance::getOmittedInt)
+                .returns(OptionalLong.empty(), TestClearance::getOmittedLong)
+                .returns(OptionalDouble.empty(), TestClearance::getOmittedDouble)
+                .returns(DEFAULT, TestClearance::getDefault)
+                .returns(-1L, TestClearance::getDefaultPrimitive)
+                .returns(data, TestClearance::__data__)
+                .returns(auth, TestClearance::__auth__)
+                .returns(someBean, TestClearance::someBean);
+        assertThatThrownBy(clearance::notHelper)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Unsupported method")
+                .hasMessageContaining("notHelper");
+        assertThatThrownBy(() -> clearance.__auth__(new Object()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Unsupported method")
+                .hasMessageContaining("__auth__");
+        assertThatThrownBy(() -> clearance.__data__(new Object()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Unsupported method")
+                .hasMessageContaining("__data__");
+        assertThat(clearance.uuid()).isNotNull().isEqualTo(clearance.uuid());
+        assertThat(clearance.uuidThatChangesEachTime()).isNotNull().isNotEqualTo(clearance.uuidThatChangesEachTime());
+        assertThat(clearance.string(1)).isNotNull().startsWith("1_").isEqualTo(clearance.string(1));
+        assertThat(clearance.string(2)).isNotNull().startsWith("2_").isEqualTo(clearance.string(2));
+        assertThat(clearance.string(1)).isNotEqualTo(clearance.string(2));
+    }
+
+    @Test
+    void generate_WhenADefaultPropertyIsSet_ThenOverridesTheDefault() {
+        var value = new Object();
+        var data = Map.<String, Object>of("required", new Object(), "primitive", 1, "default", value, "defaultPrimitive", 2L);
+        var model = GeneratedClearanceModel
+                .generate(TestClearance.class, layout, beans, sharedHelperResolver, false)
+                .orElseThrow();
+        assertThat((TestClearance) model.create(auth, ClearanceData.of(layout, data)))
+                .returns(value, TestClearance::getDefault)
+                .returns(2L, TestClearance::getDefaultPrimitive);
+    }
+
+    @Test
+    void generate_ValueEquality() {
+        var model = GeneratedClearanceModel
+                .generate(TestClearance.class, layout, beans, sharedHelperResolver, true)
+                .orElseThrow();
+        var identityModel = GeneratedClearanceModel
+                .generate(TestClearance.class, layout, beans, sharedHelperResolver, false)
+                .orElseThrow();
+        var required = new Object();
+        var clearance = create(model, new TestingAuthenticationToken("alice", "x"), required);
+        assertThat(clearance)
+                .isEqualTo(create(model, new TestingAuthenticationToken("alice", "y"), required))
+                .hasSameHashCodeAs(create(model, new TestingAuthenticationToken("alice", "y"), required))
+                .isNotEqualTo(create(model, new TestingAuthenticationToken("bob", "x"), required))
+                .isNotEqualTo(create(model, new TestingAuthenticationToken("alice", "x"), new Object()))
+                .isNotEqualTo(create(identityModel, new TestingAuthenticationToken("alice", "x"), required))
+                .isNotEqualTo(mock(TestClearance.class))
+                .isNotEqualTo(null);
+        assertThat(create(identityModel, new TestingAuthenticationToken("alice", "x"), required))
+                .isNotEqualTo(clearance)
+                .isNotEqualTo(create(identityModel, new TestingAuthenticationToken("alice", "x"), required));
+    }
+
+    private Clearance create(ClearanceModel model, Authentication auth, Object required) {
+        return model.create(auth, ClearanceData.of(layout, Map.of("required", required, "primitive", 1)));
+    }
+
+    @Test
+    void generate_SharedCachedHelper() {
+        var resolver = new SharedHelperResolver(new StaticListableBeanFactory().getBeanProvider(CacheManager.class));
+        var layout = new ClearanceLayout(new PropertyCache(mock(GeneratedClearanceIndex.class)).get(SharedClearance.class));
+        var model = GeneratedClearanceModel
+                .generate(SharedClearance.class, layout, beans, resolver, false)
+                .orElseThrow();
+        var clearances = Stream
+                .of(1, 1, 2)
+                .map(id -> (SharedClearance) model.create(auth, ClearanceData.of(layout, Map.of("id", id))))
+                .toList();
+        assertThat(clearances.get(0).shared())
+                .isEqualTo(clearances.get(0).shared())
+                .isEqualTo(clearances.get(1).shared())
+                .isNotEqualTo(clearances.get(2).shared());
+    }
+
+    @Test
+    void load_WhenPropertiesHaveTypeUseAnnotations_ThenLoadsTheProcessorsImplementation(@TempDir Path tempDir)
+            throws Exception {
+        var source = Files.writeString(Files.createDirectories(tempDir.resolve("src")).resolve("Annotated.java"), """
+                package com.example;
+
+                import io.github.naomimyselfandi.staticsecurity.Clearance;
+                import org.jetbrains.annotations.Nullable;
+
+                public interface Annotated extends Clearance {
+
+                    @Nullable String getNick();
+
+                    String @Nullable [] getTags();
+
+                    @Helper(Helper.Type.CACHED)
+                    default @Nullable String greeting(@Nullable String prefix) {
+                        return prefix + getNick();
+                    }
+
+                }
+                """);
+        var classes = Files.createDirectories(tempDir.resolve("classes"));
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        var fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        var options = List.of(
+                "-d", classes.toString(),
+                "-s", Files.createDirectories(tempDir.resolve("generated")).toString(),
+                "-classpath", System.getProperty("java.class.path"));
+        var task = compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjects(source));
+        task.setProcessors(List.of(new ClearanceProcessor()));
+        assertThat(task.call()).describedAs("%s", diagnostics.getDiagnostics()).isTrue();
+        try (var loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            var type = loader.loadClass("com.example.Annotated");
+            var implementation = loader.loadClass("com.example.Annotated$StaticSecurity");
+            var index = mock(GeneratedClearanceIndex.class);
+            when(index.find(type)).then(invocation -> implementation);
+            var layout = new ClearanceLayout(new PropertyCache(index).get(type));
+            var model = GeneratedClearanceModel.load(type, implementation, layout, beans, sharedHelperResolver, false);
+            var tags = new String[]{"a", "b"};
+            var clearance = model.create(auth, ClearanceData.of(layout, Map.of("nick", "Naomi", "tags", tags)));
+            assertThat(clearance).isInstanceOf(implementation);
+            assertThat(type.getMethod("getNick").invoke(clearance)).isEqualTo("Naomi");
+            assertThat(type.getMethod("getTags").invoke(clearance)).isSameAs(tags);
+            assertThat(type.getMethod("greeting", String.class).invoke(clearance, "Hi ")).isEqualTo("Hi Naomi");
+        }
+    }
+
+}
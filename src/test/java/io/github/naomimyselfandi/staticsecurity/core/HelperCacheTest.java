@@ -0,0 +1,109 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HelperCacheTest {
+
+    private final HelperCache fixture = new HelperCache();
+
+    @Test
+    void get() throws Throwable {
+        var calls = new AtomicInteger();
+        assertThat(fixture.get("a", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(fixture.get("a", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(fixture.get("b", calls::incrementAndGet)).isEqualTo(2);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void get_CachesNull() throws Throwable {
+        var calls = new AtomicInteger();
+        HelperCache.Computation computation = () -> {
+            calls.incrementAndGet();
+            return null;
+        };
+        assertThat(fixture.get("a", computation)).isNull();
+        assertThat(fixture.get("a", computation)).isNull();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void get_WhenTheComputationFails_ThenDoesNotCacheTheFailure() throws Throwable {
+        var exception = new IllegalStateException();
+        assertThatThrownBy(() -> fixture.get("a", () -> {
+            throw exception;
+        })).isSameAs(exception);
+        assertThat(fixture.get("a", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void get_WhenCalledConcurrently_ThenComputesOnce() throws Exception {
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var first = executor.submit(() -> get("a", () -> {
+                started.countDown();
+                release.await();
+                return calls.incrementAndGet();
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            var others = IntStream
+                    .range(0, 3)
+                    .mapToObj(i -> executor.submit(() -> get("a", calls::incrementAndGet)))
+                    .toList();
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            for (var other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            }
+            assertThat(calls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_WhenAWaitingCallerSeesAFailure_ThenRethrowsTheCause() throws Exception {
+        var exception = new IllegalStateException();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var first = executor.submit(() -> get("a", () -> {
+                started.countDown();
+                release.await();
+                throw exception;
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            var second = executor.submit(() -> {
+                try {
+                    return get("a", () -> "late");
+                } catch (Throwable e) {
+                    return e;
+                }
+            });
+            release.countDown();
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCause(exception);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isIn(exception, "late");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SneakyThrows
+    private Object get(Object key, HelperCache.Computation computation) {
+        return fixture.get(key, computation);
+    }
+
+}
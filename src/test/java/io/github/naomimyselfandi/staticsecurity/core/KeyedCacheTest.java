@@ -0,0 +1,63 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.CacheStatistics;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KeyedCacheTest {
+
+    @ParameterizedTest
+    @EnumSource(CachePolicy.Eviction.class)
+    void get(CachePolicy.Eviction eviction) {
+        var values = new HashMap<>();
+        var a = new Object();
+        var b = new Object();
+        var c = new Object();
+        var d = new Object();
+        values.put(a, b);
+        values.put(c, d);
+        var cache = new KeyedCache<>(new CachePolicy(256, eviction)) {
+
+            @Override
+            @NotNull Object calculate(@NotNull Object input) {
+                return Objects.requireNonNull(values.remove(input));
+            }
+
+        };
+        assertThat(cache.get(a)).isEqualTo(b);
+        assertThat(cache.get(a)).isEqualTo(b);
+        assertThat(cache.get(c)).isEqualTo(d);
+        assertThat(cache.get(c)).isEqualTo(d);
+        assertThat(cache.statistics())
+                .returns(2L, CacheStatistics::hits)
+                .returns(2L, CacheStatistics::misses)
+                .returns(0L, CacheStatistics::evictions);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CachePolicy.Eviction.class, names = {"LRU", "CLOCK"})
+    void statistics_CountsEvictions(CachePolicy.Eviction eviction) {
+        var cache = new KeyedCache<Integer, Integer>(new CachePolicy(1, eviction)) {
+
+            @Override
+            Integer calculate(Integer input) {
+                return input;
+            }
+
+        };
+        cache.get(1);
+        cache.get(2);
+        cache.get(3);
+        assertThat(cache.statistics())
+                .returns(0L, CacheStatistics::hits)
+                .returns(3L, CacheStatistics::misses)
+                .returns(2L, CacheStatistics::evictions);
+    }
+
+}
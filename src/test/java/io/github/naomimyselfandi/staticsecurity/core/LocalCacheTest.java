@@ -0,0 +1,114 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private LocalCache fixture;
+
+    @BeforeEach
+    void setup() {
+        fixture = new LocalCache("test", Duration.ofNanos(100), 2, ticker::get);
+    }
+
+    @Test
+    void getName() {
+        assertThat(fixture.getName()).isEqualTo("test");
+    }
+
+    @Test
+    void put() {
+        fixture.put("a", "x");
+        fixture.put("b", null);
+        assertThat(fixture.get("a")).returns("x", Cache.ValueWrapper::get);
+        assertThat(fixture.get("b")).returns(null, Cache.ValueWrapper::get);
+        assertThat(fixture.get("c")).isNull();
+    }
+
+    @Test
+    void get_WithLoader() {
+        var calls = new AtomicInteger();
+        assertThat(fixture.get("a", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(fixture.get("a", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(fixture.get("a")).returns(1, Cache.ValueWrapper::get);
+    }
+
+    @Test
+    void get_WithLoader_WhenTheLoaderFails_ThenDoesNotCacheTheFailure() {
+        var exception = new IllegalStateException();
+        assertThatThrownBy(() -> fixture.get("a", () -> {
+            throw exception;
+        })).isInstanceOf(Cache.ValueRetrievalException.class).hasCause(exception);
+        assertThat(fixture.get("a")).isNull();
+        assertThat(fixture.get("a", () -> "x")).isEqualTo("x");
+    }
+
+    @Test
+    @Timeout(5)
+    void get_WithLoader_WhenTheLoaderThrowsAnError_ThenDoesNotCacheTheFailure() {
+        fixture = new LocalCache("test", Duration.ZERO, 0, ticker::get);
+        var error = new AssertionError("boom");
+        assertThatThrownBy(() -> fixture.get("a", () -> {
+            throw error;
+        })).isSameAs(error);
+        assertThat(fixture.get("a")).isNull();
+        assertThat(fixture.get("a", () -> "x")).isEqualTo("x");
+    }
+
+    @Test
+    void get_WhenTheEntryHasExpired_ThenReturnsNull() {
+        fixture.put("a", "x");
+        ticker.set(99);
+        assertThat(fixture.get("a")).isNotNull();
+        ticker.set(100);
+        assertThat(fixture.get("a")).isNull();
+        assertThat(fixture.get("a", () -> "y")).isEqualTo("y");
+    }
+
+    @Test
+    void get_WhenTheTtlIsZero_ThenKeepsEntriesIndefinitely() {
+        fixture = new LocalCache("test", Duration.ZERO, 0, ticker::get);
+        fixture.put("a", "x");
+        ticker.set(Long.MAX_VALUE);
+        assertThat(fixture.get("a")).returns("x", Cache.ValueWrapper::get);
+    }
+
+    @Test
+    void put_WhenTheCacheIsFull_ThenEvictsTheLeastRecentlyUsedEntry() {
+        fixture.put("a", "x");
+        fixture.put("b", "y");
+        fixture.get("a");
+        fixture.put("c", "z");
+        assertThat(fixture.get("a")).isNotNull();
+        assertThat(fixture.get("b")).isNull();
+        assertThat(fixture.get("c")).isNotNull();
+    }
+
+    @Test
+    void evict() {
+        fixture.put("a", "x");
+        fixture.put("b", "y");
+        fixture.evict("a");
+        assertThat(fixture.get("a")).isNull();
+        assertThat(fixture.get("b")).isNotNull();
+    }
+
+    @Test
+    void clear() {
+        fixture.put("a", "x");
+        fixture.clear();
+        assertThat(fixture.get("a")).isNull();
+    }
+
+}
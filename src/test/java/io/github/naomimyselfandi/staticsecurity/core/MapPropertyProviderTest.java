@@ -3,11 +3,14 @@ package io.github.naomimyselfandi.staticsecurity.core;
 import io.github.naomimyselfandi.staticsecurity.Property;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.convert.ConversionService;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -31,8 +34,25 @@ class MapPropertyProviderTest {
         var name = UUID.randomUUID().toString();
         var value = new Object();
         when(property.name()).thenReturn(name);
+        when(property.path()).thenCallRealMethod();
         assertThat(fixture.extractImpl(Map.of(name, value), property)).isEqualTo(value);
         verifyNoInteractions(conversionService);
     }
 
+    @Test
+    void extractImpl_WhenThePathIsNested_ThenFollowsIt() {
+        var value = new Object();
+        when(property.path()).thenReturn(List.of("documents", "1", "id"));
+        var source = Map.of("documents", List.of(Map.of(), Map.of("id", value)));
+        assertThat(fixture.extractImpl(source, property)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"missing", "-1", "2", "first"})
+    void extractImpl_WhenThePathLeadsNowhere_ThenNull(String index) {
+        when(property.path()).thenReturn(List.of("documents", index, "id"));
+        var source = Map.of("documents", List.of(Map.of(), Map.of("id", new Object())), "missing", "scalar");
+        assertThat(fixture.extractImpl(source, property)).isNull();
+    }
+
 }
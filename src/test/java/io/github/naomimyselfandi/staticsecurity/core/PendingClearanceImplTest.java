@@ -2,7 +2,6 @@ package io.github.naomimyselfandi.staticsecurity.core;
 
 import io.github.naomimyselfandi.staticsecurity.AccessPolicy;
 import io.github.naomimyselfandi.staticsecurity.Clearance;
-import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.RepetitionInfo;
@@ -11,14 +10,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.ResolvableType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.lang.reflect.Proxy;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,20 +27,29 @@ class PendingClearanceImplTest {
     @Mock
     private Authentication authentication;
 
-    private Map<String, Object> data;
+    @Mock
+    private ClearanceData data;
 
     @Mock
     private AccessPolicy<TestClearance> foo, bar;
 
     @Mock
-    private Cache<ResolvableType, Object> beanCache;
+    private ClearanceModel model;
+
+    @Mock
+    private TestClearance clearance;
+
+    @Mock
+    private Prefetch prefetch;
+
+    @Mock
+    private Future<?> task;
 
     private PendingClearanceImpl<TestClearance> fixture;
 
     @BeforeEach
     void setup() {
-        data = Map.of(UUID.randomUUID().toString(), new Object());
-        fixture = new PendingClearanceImpl<>(TestClearance.class, data, List.of(foo, bar), beanCache);
+        fixture = new PendingClearanceImpl<>(model, data, List.of(foo, bar), prefetch);
     }
 
     @ParameterizedTest
@@ -52,19 +57,14 @@ class PendingClearanceImplTest {
     void get(boolean nullable) {
         try {
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            var clearance = fixture.get(nullable);
-            assertThat(clearance)
-                    .isNotNull()
-                    .isInstanceOf(TestClearance.class)
-                    .extracting(Proxy::getInvocationHandler)
-                    .asInstanceOf(InstanceOfAssertFactories.type(ClearanceInvocationHandler.class))
-                    .returns(TestClearance.class, it -> it.type)
-                    .returns(authentication, it -> it.auth)
-                    .returns(data, it -> it.data)
-                    .returns(beanCache, it -> it.beanCache);
-            var inOrder = inOrder(foo, bar);
+            when(model.create(authentication, data)).thenReturn(clearance);
+            doReturn(List.of(task)).when(prefetch).start(clearance);
+            assertThat(fixture.get(nullable)).isEqualTo(clearance);
+            var inOrder = inOrder(prefetch, foo, bar);
+            inOrder.verify(prefetch).start(clearance);
             inOrder.verify(foo).check(clearance);
             inOrder.verify(bar).check(clearance);
+            verifyNoInteractions(task);
         } finally {
             SecurityContextHolder.clearContext();
         }
@@ -76,10 +76,13 @@ class PendingClearanceImplTest {
         var policies = List.of(foo, bar);
         var policy = policies.get(index);
         var e = new RuntimeException();
-        when(policy.check(any())).thenReturn(() -> e);
+        when(model.create(any(), eq(data))).thenReturn(clearance);
+        when(policy.check(clearance)).thenReturn(() -> e);
+        doReturn(List.of(task)).when(prefetch).start(clearance);
         assertThat(fixture.get(true)).isNull();
         verify(foo).check(any());
         verify(bar, times(index)).check(any());
+        verify(task).cancel(true);
     }
 
     @RepeatedTest(2)
@@ -88,10 +91,13 @@ class PendingClearanceImplTest {
         var policies = List.of(foo, bar);
         var policy = policies.get(index);
         var e = new RuntimeException();
-        when(policy.check(any())).thenReturn(() -> e);
+        when(model.create(any(), eq(data))).thenReturn(clearance);
+        when(policy.check(clearance)).thenReturn(() -> e);
+        doReturn(List.of(task)).when(prefetch).start(clearance);
         assertThatThrownBy(() -> fixture.get(false)).isEqualTo(e);
         verify(foo).check(any());
         verify(bar, times(index)).check(any());
+        verify(task).cancel(true);
     }
 
 }
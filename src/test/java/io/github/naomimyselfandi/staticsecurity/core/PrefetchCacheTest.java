@@ -0,0 +1,142 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrefetchCacheTest {
+
+    @SuppressWarnings("unused")
+    private interface TestClearance extends Clearance {
+
+        Object getValue();
+
+        @Helper(Helper.Type.CACHED)
+        @Prefetch
+        default Object foo() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        @Prefetch
+        default Object bar() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        default Object baz() {
+            return fail();
+        }
+
+    }
+
+    @Mock
+    private ObjectProvider<Executor> executors;
+
+    @Mock
+    private Executor executor;
+
+    private PrefetchCache fixture;
+
+    @BeforeEach
+    void setup() {
+        when(executors.getIfAvailable()).thenReturn(executor);
+        fixture = new PrefetchCache(executors);
+    }
+
+    @Test
+    void calculate() throws NoSuchMethodException {
+        var prefetch = fixture.calculate(TestClearance.class);
+        assertThat(prefetch.methods())
+                .containsExactly(TestClearance.class.getMethod("bar"), TestClearance.class.getMethod("foo"));
+        prefetch.start(mock(TestClearance.class));
+        verify(executor, times(2)).execute(any());
+    }
+
+    @Test
+    void calculate_WhenNoHelpersArePrefetched_ThenReturnsAnEmptyPrefetch() {
+        interface Other extends Clearance {}
+        assertThat(fixture.calculate(Other.class).methods()).isEmpty();
+    }
+
+    @Test
+    void calculate_WhenAPrefetchedMethodIsNotACachedHelper_ThenThrows() throws NoSuchMethodException {
+        interface Other extends Clearance {
+            @Helper(Helper.Type.DIRECT)
+            @Prefetch
+            default Object foo() {
+                return fail();
+            }
+        }
+        assertThatThrownBy(() -> fixture.calculate(Other.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("%s can't be prefetched because it isn't a cached helper.", Other.class.getMethod("foo"));
+    }
+
+    @Test
+    void calculate_WhenAPrefetchedHelperHasParameters_ThenThrows() throws NoSuchMethodException {
+        interface Other extends Clearance {
+            @Helper(Helper.Type.CACHED)
+            @Prefetch
+            default Object foo(int parameter) {
+                return fail();
+            }
+        }
+        assertThatThrownBy(() -> fixture.calculate(Other.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("%s can't be prefetched because it has parameters.", Other.class.getMethod("foo", int.class));
+    }
+
+    @Test
+    void calculate_PropagatesTheSecurityContext() throws Exception {
+        var authentication = mock(Authentication.class);
+        var result = new CompletableFuture<Authentication>();
+        when(executors.getIfAvailable()).thenReturn(null);
+        fixture = new PrefetchCache(executors);
+        var clearance = mock(TestClearance.class);
+        when(clearance.foo()).then(invocation -> {
+            result.complete(SecurityContextHolder.getContext().getAuthentication());
+            return null;
+        });
+        try {
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            fixture.calculate(TestClearance.class).start(clearance);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(authentication);
+        fixture.destroy();
+    }
+
+    @Test
+    void destroy_WhenTheExecutorIsProvided_ThenLeavesItAlone() {
+        fixture.destroy();
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void destroy_WhenTheExecutorIsTheDefault_ThenShutsItDown() {
+        when(executors.getIfAvailable()).thenReturn(null);
+        fixture = new PrefetchCache(executors);
+        var prefetch = fixture.calculate(TestClearance.class);
+        fixture.destroy();
+        var clearance = mock(TestClearance.class);
+        assertThat(prefetch.start(clearance)).isEmpty();
+        verifyNoInteractions(clearance);
+    }
+
+}
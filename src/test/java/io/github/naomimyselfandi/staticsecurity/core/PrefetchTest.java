@@ -0,0 +1,82 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrefetchTest {
+
+    @SuppressWarnings("unused")
+    private interface TestClearance extends Clearance {
+
+        @Helper(Helper.Type.CACHED)
+        @Prefetch
+        default Object foo() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        @Prefetch
+        default Object bar() {
+            return fail();
+        }
+
+    }
+
+    @Mock
+    private TestClearance clearance;
+
+    private Prefetch fixture;
+
+    @BeforeEach
+    void setup() throws NoSuchMethodException {
+        var methods = List.of(TestClearance.class.getMethod("bar"), TestClearance.class.getMethod("foo"));
+        fixture = new Prefetch(methods, Runnable::run);
+    }
+
+    @Test
+    void start() {
+        assertThat(fixture.start(clearance)).hasSize(2).allMatch(Future::isDone);
+        verify(clearance).foo();
+        verify(clearance).bar();
+    }
+
+    @Test
+    void cancel() {
+        fixture = new Prefetch(fixture.methods(), mock(Executor.class));
+        var tasks = fixture.start(clearance);
+        Prefetch.cancel(tasks);
+        assertThat(tasks).hasSize(2).allMatch(Future::isCancelled);
+        verifyNoInteractions(clearance);
+    }
+
+    @Test
+    void start_WhenAHelperFails_ThenIgnoresTheFailure() {
+        when(clearance.bar()).thenThrow(new RuntimeException());
+        assertThatCode(() -> fixture.start(clearance)).doesNotThrowAnyException();
+        verify(clearance).foo();
+    }
+
+    @Test
+    void start_WhenTheExecutorRejectsATask_ThenSkipsIt() {
+        var executor = mock(Executor.class);
+        doThrow(RejectedExecutionException.class).when(executor).execute(any());
+        fixture = new Prefetch(fixture.methods(), executor);
+        assertThat(fixture.start(clearance)).isEmpty();
+        verify(executor, times(2)).execute(any());
+        verifyNoInteractions(clearance);
+    }
+
+}
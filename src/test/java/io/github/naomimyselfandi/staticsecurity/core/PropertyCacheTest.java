@@ -1,26 +1,32 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
 import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.SourcePath;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.TypeDescriptor;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class PropertyCacheTest {
 
+    private GeneratedClearanceIndex generatedClearanceIndex;
+
     private PropertyCache fixture;
 
     @BeforeEach
     void setup() {
-        fixture = new PropertyCache();
+        generatedClearanceIndex = mock(GeneratedClearanceIndex.class);
+        fixture = new PropertyCache(generatedClearanceIndex);
     }
 
     @Test
@@ -81,4 +87,62 @@ class PropertyCacheTest {
         );
     }
 
+    @Test
+    void calculate_SourcePath() throws NoSuchMethodException {
+        interface TestClearance extends Clearance {
+            @SourcePath("/document/id") String getId();
+            @SourcePath("/a~1b/~0c/0") String other();
+        }
+        var string = TypeDescriptor.valueOf(String.class);
+        var type = TestClearance.class;
+        assertThat(fixture.calculate(type)).containsExactly(
+                new PropertyImpl("id", string, type.getMethod("getId"), true, List.of("document", "id")),
+                new PropertyImpl("other", string, type.getMethod("other"), true, List.of("a/b", "~c", "0"))
+        );
+    }
+
+    @Test
+    void calculate_SourcePath_Invalid() throws NoSuchMethodException {
+        interface TestClearance extends Clearance {
+            @SourcePath("document/id") String getId();
+        }
+        var method = TestClearance.class.getMethod("getId");
+        assertThatThrownBy(() -> fixture.calculate(TestClearance.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("%s has an invalid source path 'document/id'.", method);
+    }
+
+    @Test
+    void calculate_Generated() throws NoSuchMethodException {
+        interface TestClearance extends Clearance {
+            String getFoo();
+            default int bar() {
+                return fail();
+            }
+        }
+        abstract class Implementation implements TestClearance {
+            @SuppressWarnings("unused")
+            public static final Object[][] PROPERTIES = {
+                    {"bar", "bar", false},
+                    {"foo", "getFoo", true},
+            };
+        }
+        when(generatedClearanceIndex.find(TestClearance.class)).then(invocation -> Implementation.class);
+        var type = TestClearance.class;
+        assertThat(fixture.calculate(type)).containsExactly(
+                new PropertyImpl("bar", TypeDescriptor.valueOf(int.class), type.getMethod("bar"), false),
+                new PropertyImpl("foo", TypeDescriptor.valueOf(String.class), type.getMethod("getFoo"), true)
+        );
+    }
+
+    @Test
+    void calculate_Generated_Invalid() {
+        interface TestClearance extends Clearance {}
+        abstract class Implementation implements TestClearance {}
+        when(generatedClearanceIndex.find(TestClearance.class)).then(invocation -> Implementation.class);
+        assertThatThrownBy(() -> fixture.calculate(TestClearance.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("%s is not a valid implementation of %s.", Implementation.class, TestClearance.class);
+    }
+
 }
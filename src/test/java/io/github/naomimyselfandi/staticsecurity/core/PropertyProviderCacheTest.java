@@ -1,5 +1,6 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
+import io.github.naomimyselfandi.staticsecurity.FieldAccess;
 import io.github.naomimyselfandi.staticsecurity.Property;
 import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -25,6 +26,8 @@ class PropertyProviderCacheTest {
     private static class SubImpl extends FooImpl {}
     private static class BarImpl extends SubImpl implements Bar {}
     private interface SomethingElse {}
+    private record SomeRecord(Object value) {}
+    @FieldAccess private static class SomePojo {}
 
     @Mock
     private Cache<Class<?>, List<Property>> propertyCache;
@@ -90,4 +93,29 @@ class PropertyProviderCacheTest {
                 .returns(fixture, it -> it.propertyProviderCache);
     }
 
+    @Test
+    void calculate_WhenNoExtractorIsConfiguredForARecord_ThenUsesARecordExtractor() {
+        when(property.name()).thenReturn(UUID.randomUUID().toString());
+        when(propertyCache.calculate(SomeRecord.class)).thenReturn(List.of(property));
+        assertThat(fixture.calculate(SomeRecord.class))
+                .asInstanceOf(InstanceOfAssertFactories.type(RecordPropertyProvider.class))
+                .returns(SomeRecord.class, PropertyProvider::getSourceType)
+                .returns(Map.of(property.name(), property), it -> it.properties)
+                .returns(conversionService, it -> it.conversionService)
+                .returns(fixture, it -> it.propertyProviderCache);
+    }
+
+    @Test
+    void calculate_WhenNoExtractorIsConfiguredForAFieldAccessType_ThenUsesAFieldExtractor() throws NoSuchMethodException {
+        when(property.name()).thenReturn(UUID.randomUUID().toString());
+        when(property.method()).thenReturn(Object.class.getMethod("toString"));
+        when(propertyCache.calculate(SomePojo.class)).thenReturn(List.of(property));
+        assertThat(fixture.calculate(SomePojo.class))
+                .asInstanceOf(InstanceOfAssertFactories.type(FieldPropertyProvider.class))
+                .returns(SomePojo.class, PropertyProvider::getSourceType)
+                .returns(Map.of(property.name(), property), it -> it.properties)
+                .returns(conversionService, it -> it.conversionService)
+                .returns(fixture, it -> it.propertyProviderCache);
+    }
+
 }
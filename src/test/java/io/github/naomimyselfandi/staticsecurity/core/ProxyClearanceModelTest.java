@@ -0,0 +1,49 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ResolvableType;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProxyClearanceModelTest {
+
+    private interface TestClearance extends Clearance {}
+
+    @Mock
+    private Authentication auth;
+
+    @Mock
+    private Cache<ResolvableType, Object> beanCache;
+
+    @Mock
+    private SharedHelperResolver sharedHelperResolver;
+
+    @Test
+    void create() {
+        var data = ClearanceData.of(new ClearanceLayout(List.of()), Map.of());
+        var dispatchTable = new ClearanceDispatchTable(TestClearance.class, data.layout(), beanCache, sharedHelperResolver);
+        var fixture = new ProxyClearanceModel(TestClearance.class, dispatchTable, true);
+        assertThat(fixture.create(auth, data))
+                .isInstanceOf(TestClearance.class)
+                .extracting(Proxy::getInvocationHandler)
+                .asInstanceOf(InstanceOfAssertFactories.type(ClearanceInvocationHandler.class))
+                .returns(TestClearance.class, it -> it.type)
+                .returns(dispatchTable, it -> it.dispatchTable)
+                .returns(auth, it -> it.auth)
+                .returns(data, it -> it.data)
+                .returns(true, it -> it.valueEquality)
+                .returns(null, it -> it.member);
+    }
+
+}
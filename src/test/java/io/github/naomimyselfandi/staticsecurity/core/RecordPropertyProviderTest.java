@@ -0,0 +1,87 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
+import io.github.naomimyselfandi.staticsecurity.Unwrap;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecordPropertyProviderTest {
+
+    private record Source(int id, String name, @Unwrap Map<String, Object> rest) {
+
+        public String getDerived() {
+            return name + "!";
+        }
+
+    }
+
+    @Mock
+    private Cache<Class<?>, PropertyProvider<?>> propertyProviderCache;
+
+    @Mock
+    private PropertyProvider<Map<?, ?>> delegate;
+
+    private final Source source = new Source(42, "Alice", Map.of("extra", true));
+
+    private RecordPropertyProvider<Source> fixture;
+
+    @BeforeEach
+    void setup() {
+        var properties = new PropertyCache(mock(GeneratedClearanceIndex.class)).calculate(Source.class);
+        fixture = new RecordPropertyProvider<>(Source.class, properties, new DefaultConversionService(), propertyProviderCache);
+    }
+
+    @Test
+    void accessors() throws NoSuchMethodException {
+        assertThat(fixture.accessors).containsOnlyKeys(
+                Source.class.getMethod("id"),
+                Source.class.getMethod("name"),
+                Source.class.getMethod("rest"));
+    }
+
+    @Test
+    void extract() {
+        assertThat(fixture.extract(source, property("id", String.class))).isEqualTo("42");
+        assertThat(fixture.extract(source, property("name", String.class))).isEqualTo("Alice");
+        assertThat(fixture.extract(source, property("derived", String.class))).isEqualTo("Alice!");
+    }
+
+    @Test
+    void extract_WhenThePropertyIsUnwrapped_ThenUsesTheDelegate() {
+        var property = property("extra", Boolean.class);
+        doReturn(delegate).when(propertyProviderCache).get(Map.class);
+        when(delegate.canExtract(property)).thenReturn(true);
+        when(delegate.extract(source.rest(), property)).thenReturn(true);
+        assertThat(fixture.extract(source, property)).isEqualTo(true);
+    }
+
+    @Test
+    void compile() {
+        assertThat(extract(fixture.compile(property("id", long.class)))).isEqualTo(42L);
+        assertThat(extract(fixture.compile(property("name", String.class)))).isEqualTo("Alice");
+        assertThat(extract(fixture.compile(property("derived", String.class)))).isEqualTo("Alice!");
+    }
+
+    private static Property property(String name, Class<?> type) {
+        return new PropertyImpl(name, TypeDescriptor.valueOf(type), mock(), true);
+    }
+
+    private @Nullable Object extract(CompiledDataSource.Step<Source> step) {
+        return step.extract(source, new CompiledDataSource.Unwrapped(source, fixture.unwraps()));
+    }
+
+}
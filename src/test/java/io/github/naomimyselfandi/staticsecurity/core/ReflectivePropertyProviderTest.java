@@ -3,6 +3,7 @@ package io.github.naomimyselfandi.staticsecurity.core;
 import io.github.naomimyselfandi.staticsecurity.Property;
 import io.github.naomimyselfandi.staticsecurity.PropertyProvider;
 import io.github.naomimyselfandi.staticsecurity.Unwrap;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,6 +54,9 @@ class ReflectivePropertyProviderTest {
     @Mock
     private UnwrappedValue unwrappedValue;
 
+    @Mock
+    private PropertyProvider<SomethingElse> nestedDelegate;
+
     @Mock
     private Property property, absentProperty, sourceProperty;
 
@@ -75,7 +79,9 @@ class ReflectivePropertyProviderTest {
                 conversionService,
                 propertyProviderCache);
         lenient().when(property.name()).thenReturn(name1);
+        lenient().when(property.path()).thenCallRealMethod();
         lenient().when(absentProperty.name()).thenReturn(name2);
+        lenient().when(absentProperty.path()).thenCallRealMethod();
         lenient().when(property.type()).thenReturn(Something.TYPE);
         lenient().when(sourceProperty.type()).thenReturn(SomethingElse.TYPE);
         lenient().doReturn(delegate).when(propertyProviderCache).get(UnwrappedValue.class);
@@ -90,6 +96,27 @@ class ReflectivePropertyProviderTest {
         assertThat(fixture.extract(source, property)).isEqualTo(something);
     }
 
+    @Test
+    void extract_RemembersThatTheConversionIsPossible() throws NoSuchMethodException {
+        when(sourceProperty.method()).thenReturn(Source.class.getMethod("something"));
+        when(source.something()).thenReturn(somethingElse);
+        when(conversionService.canConvert(SomethingElse.TYPE, Something.TYPE)).thenReturn(true);
+        when(conversionService.convert(somethingElse, SomethingElse.TYPE, Something.TYPE)).thenReturn(something);
+        assertThat(fixture.extract(source, property)).isEqualTo(something);
+        assertThat(fixture.extract(source, property)).isEqualTo(something);
+        verify(conversionService).canConvert(SomethingElse.TYPE, Something.TYPE);
+    }
+
+    @Test
+    void extract_WhenAConverterIsRegisteredLater_ThenUsesIt() throws NoSuchMethodException {
+        when(sourceProperty.method()).thenReturn(Source.class.getMethod("something"));
+        when(source.something()).thenReturn(somethingElse);
+        when(conversionService.canConvert(SomethingElse.TYPE, Something.TYPE)).thenReturn(false, true);
+        when(conversionService.convert(somethingElse, SomethingElse.TYPE, Something.TYPE)).thenReturn(something);
+        assertThat(fixture.extract(source, property)).isNull();
+        assertThat(fixture.extract(source, property)).isEqualTo(something);
+    }
+
     @Test
     void extract_WhenTheValueIsNull_ThenNull() throws NoSuchMethodException {
         when(sourceProperty.method()).thenReturn(Source.class.getMethod("something"));
@@ -122,6 +149,97 @@ class ReflectivePropertyProviderTest {
         assertThat(fixture.extract(source, absentProperty)).isEqualTo(value);
     }
 
+    @Test
+    void compile() throws NoSuchMethodException {
+        when(sourceProperty.method()).thenReturn(Source.class.getMethod("something"));
+        when(source.something()).thenReturn(somethingElse, (SomethingElse) null);
+        when(conversionService.canConvert(SomethingElse.TYPE, Something.TYPE)).thenReturn(true);
+        when(conversionService.convert(somethingElse, SomethingElse.TYPE, Something.TYPE)).thenReturn(something);
+        var step = fixture.compile(property);
+        assertThat(extract(step)).isEqualTo(something);
+        assertThat(extract(step)).isNull();
+        verify(conversionService).canConvert(SomethingElse.TYPE, Something.TYPE);
+    }
+
+    @Test
+    void compile_WhenAConverterIsRegisteredLater_ThenUsesIt() throws NoSuchMethodException {
+        when(sourceProperty.method()).thenReturn(Source.class.getMethod("something"));
+        when(source.something()).thenReturn(somethingElse);
+        when(conversionService.canConvert(SomethingElse.TYPE, Something.TYPE)).thenReturn(false, true);
+        when(conversionService.convert(somethingElse, SomethingElse.TYPE, Something.TYPE)).thenReturn(something);
+        var step = fixture.compile(property);
+        assertThat(extract(step)).isNull();
+        assertThat(extract(step)).isEqualTo(something);
+    }
+
+    @Test
+    void compile_WhenTheTypeCannotBeConverted_ThenNull() throws NoSuchMethodException {
+        when(sourceProperty.method()).thenReturn(Source.class.getMethod("something"));
+        when(conversionService.canConvert(SomethingElse.TYPE, Something.TYPE)).thenReturn(false);
+        assertThat(extract(fixture.compile(property))).isNull();
+        verifyNoInteractions(source);
+    }
+
+    @Test
+    void compile_WhenThePropertyIsAbsent_ThenExtractsNormally() {
+        when(delegate.canExtract(absentProperty)).thenReturn(true);
+        when(delegate.extract(unwrappedValue, absentProperty)).thenReturn(something);
+        when(source.getUnwrappedValue()).thenReturn(unwrappedValue);
+        assertThat(extract(fixture.compile(absentProperty))).isEqualTo(something);
+    }
+
+    @Test
+    void compile_WhenSeveralPropertiesAreUnwrapped_ThenUnwrapsOnce() {
+        var otherProperty = mock(Property.class);
+        when(otherProperty.name()).thenReturn(UUID.randomUUID().toString());
+        when(otherProperty.path()).thenCallRealMethod();
+        when(delegate.canExtract(absentProperty)).thenReturn(true);
+        when(delegate.canExtract(otherProperty)).thenReturn(true);
+        when(delegate.extract(unwrappedValue, absentProperty)).thenReturn(something);
+        when(delegate.extract(unwrappedValue, otherProperty)).thenReturn(somethingElse);
+        when(source.getUnwrappedValue()).thenReturn(unwrappedValue);
+        var unwrapped = new CompiledDataSource.Unwrapped(source, fixture.unwraps());
+        assertThat(fixture.compile(absentProperty).extract(source, unwrapped)).isEqualTo(something);
+        assertThat(fixture.compile(otherProperty).extract(source, unwrapped)).isEqualTo(somethingElse);
+        verify(source).getUnwrappedValue();
+    }
+
+    @Test
+    void compile_WhenNoUnwrappedValueCanSupplyTheProperty_ThenDoesNotUnwrap() {
+        when(delegate.canExtract(absentProperty)).thenReturn(false);
+        assertThat(extract(fixture.compile(absentProperty))).isNull();
+        verify(source, never()).getUnwrappedValue();
+    }
+
+    @Test
+    void extract_WhenThePathIsNested_ThenDelegatesTheRest() throws NoSuchMethodException {
+        var nestedProperty = nestedProperty();
+        when(nestedDelegate.extract(eq(somethingElse), argThat(it -> it.path().equals(List.of("id")))))
+                .thenReturn(something);
+        when(source.something()).thenReturn(somethingElse);
+        assertThat(fixture.extract(source, nestedProperty)).isEqualTo(something);
+        verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    void compile_WhenThePathIsNested_ThenDelegatesTheRest() throws NoSuchMethodException {
+        var nestedProperty = nestedProperty();
+        when(nestedDelegate.extract(eq(somethingElse), argThat(it -> it.path().equals(List.of("id")))))
+                .thenReturn(something);
+        when(source.something()).thenReturn(somethingElse, (SomethingElse) null);
+        var step = fixture.compile(nestedProperty);
+        assertThat(extract(step)).isEqualTo(something);
+        assertThat(extract(step)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void canExtract_WhenThePathIsNested_ThenAsksTheDelegate(boolean value) throws NoSuchMethodException {
+        var nestedProperty = nestedProperty();
+        when(nestedDelegate.canExtract(argThat(it -> it.path().equals(List.of("id"))))).thenReturn(value);
+        assertThat(fixture.canExtract(nestedProperty)).isEqualTo(value);
+    }
+
     @Test
     void flatten() {
         when(conversionService.convert(source, Something.TYPE)).thenReturn(something);
@@ -155,4 +273,17 @@ class ReflectivePropertyProviderTest {
         assertThat(fixture.getSourceType()).isEqualTo(Source.class);
     }
 
+    private Property nestedProperty() throws NoSuchMethodException {
+        var nestedProperty = mock(Property.class);
+        var path = List.of(sourceProperty.name(), "id");
+        when(nestedProperty.path()).thenReturn(path);
+        when(sourceProperty.method()).thenReturn(Source.class.getMethod("something"));
+        doReturn(nestedDelegate).when(propertyProviderCache).get(SomethingElse.class);
+        return nestedProperty;
+    }
+
+    private @Nullable Object extract(CompiledDataSource.Step<Source> step) {
+        return step.extract(source, new CompiledDataSource.Unwrapped(source, fixture.unwraps()));
+    }
+
 }
@@ -0,0 +1,121 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SharedHelperResolverTest {
+
+    @SuppressWarnings("unused")
+    private interface TestClearance extends Clearance {
+
+        @Helper(Helper.Type.CACHED)
+        @SharedCache(value = "documents", key = "id", ttlSeconds = 60, maxSize = 10)
+        default Object document() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        @SharedCache("documents")
+        default Object otherDocument() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        default Object notShared() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.DIRECT)
+        @SharedCache("documents")
+        default Object direct() {
+            return fail();
+        }
+
+        @Helper(Helper.Type.CACHED)
+        @SharedCache(value = "documents", key = "missing")
+        default Object unknownKey() {
+            return fail();
+        }
+
+    }
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagers;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private Property id;
+
+    private ClearanceLayout layout;
+
+    private SharedHelperResolver fixture;
+
+    @BeforeEach
+    void setup() {
+        when(id.name()).thenReturn("id");
+        layout = new ClearanceLayout(List.of(id));
+        fixture = new SharedHelperResolver(cacheManagers);
+    }
+
+    @Test
+    void resolve_WhenTheMethodIsNotShared_ThenReturnsNull() throws NoSuchMethodException {
+        assertThat(fixture.resolve(TestClearance.class.getMethod("notShared"), layout)).isNull();
+        assertThat(fixture.resolve(TestClearance.class.getMethod("direct"), layout)).isNull();
+    }
+
+    @Test
+    void resolve_WhenThereIsNoCacheManager_ThenUsesALocalCache() throws NoSuchMethodException {
+        var document = fixture.resolve(TestClearance.class.getMethod("document"), layout);
+        var otherDocument = fixture.resolve(TestClearance.class.getMethod("otherDocument"), layout);
+        assertThat(document).isNotNull();
+        assertThat(otherDocument).isNotNull();
+        assertThat(document.cache())
+                .isInstanceOf(LocalCache.class)
+                .returns("documents", Cache::getName)
+                .isSameAs(otherDocument.cache());
+    }
+
+    @Test
+    void resolve_WhenThereIsACacheManager_ThenUsesIt() throws NoSuchMethodException {
+        when(cacheManagers.getIfUnique()).thenReturn(cacheManager);
+        when(cacheManager.getCache("documents")).thenReturn(cache);
+        assertThat(fixture.resolve(TestClearance.class.getMethod("document"), layout))
+                .isNotNull()
+                .returns(cache, SharedHelper::cache);
+    }
+
+    @Test
+    void resolve_WhenTheCacheManagerDoesNotHaveTheCache_ThenThrows() {
+        when(cacheManagers.getIfUnique()).thenReturn(cacheManager);
+        assertThatThrownBy(() -> fixture.resolve(TestClearance.class.getMethod("document"), layout))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("No cache named 'documents' is available.");
+    }
+
+    @Test
+    void resolve_WhenTheKeyNamesAnUnknownProperty_ThenThrows() {
+        assertThatThrownBy(() -> fixture.resolve(TestClearance.class.getMethod("unknownKey"), layout))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageEndingWith("uses unknown property 'missing' in its cache key.");
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.github.naomimyselfandi.staticsecurity.core;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SharedHelperTest {
+
+    @Mock
+    private Property foo, bar;
+
+    private ClearanceData data;
+
+    private LocalCache cache;
+
+    @BeforeEach
+    void setup() {
+        when(foo.name()).thenReturn("foo");
+        when(bar.name()).thenReturn("bar");
+        var layout = new ClearanceLayout(List.of(foo, bar));
+        data = ClearanceData.of(layout, Map.of("foo", "x", "bar", "y"));
+        cache = new LocalCache("test", Duration.ZERO, 0);
+    }
+
+    @Test
+    void key() {
+        var auth = new TestingAuthenticationToken("alice", null);
+        var fixture = new SharedHelper(cache, "helper", new int[]{1}, false);
+        assertThat(fixture.cache()).isSameAs(cache);
+        assertThat(fixture.key(auth, data, new Object[]{1, 2})).isEqualTo(new SimpleKey("helper", 1, 2, "y"));
+        assertThat(fixture.key(auth, data, null)).isEqualTo(new SimpleKey("helper", "y"));
+    }
+
+    @Test
+    void key_WithPrincipal() {
+        var auth = new TestingAuthenticationToken("alice", null);
+        var fixture = new SharedHelper(cache, "helper", new int[]{0, 1}, true);
+        assertThat(fixture.key(auth, data, new Object[]{1})).isEqualTo(new SimpleKey("helper", "alice", 1, "x", "y"));
+    }
+
+    @Test
+    void get() throws Throwable {
+        var alice = new TestingAuthenticationToken("alice", null);
+        var bob = new TestingAuthenticationToken("bob", null);
+        var fixture = new SharedHelper(cache, "helper", new int[0], false);
+        assertThat(fixture.get(alice, data, null, () -> "first")).isEqualTo("first");
+        assertThat(fixture.get(bob, data, null, () -> "second")).isEqualTo("first");
+        assertThat(fixture.get(bob, data, new Object[]{1}, () -> "third")).isEqualTo("third");
+    }
+
+    @Test
+    void get_WhenTheComputationFails_ThenRethrowsTheCause() {
+        var exception = new IllegalStateException();
+        var fixture = new SharedHelper(cache, "helper", new int[0], false);
+        assertThatThrownBy(() -> fixture.get(null, data, null, () -> {
+            throw exception;
+        })).isSameAs(exception);
+    }
+
+}
@@ -35,6 +35,9 @@ class StaticSecurityConfigurationTest {
     @Mock
     private ObjectProvider<ConfigurableConversionService> conversionServices;
 
+    @Mock
+    private ClearanceWarmUp clearanceWarmUp;
+
     @InjectMocks
     private StaticSecurityConfiguration fixture;
 
@@ -42,8 +45,10 @@ class StaticSecurityConfigurationTest {
     void afterSingletonsInstantiated() {
         when(conversionServices.iterator()).then(invocation -> List.of(conversionService).iterator());
         fixture.afterSingletonsInstantiated();
-        verify(conversionService).addConverter(new ClearanceConverter(securityService));
-        verify(conversionService).addConverter(new ClearanceReverseConverter(propertyCache, conversionService));
+        var inOrder = inOrder(conversionService, clearanceWarmUp);
+        inOrder.verify(conversionService).addConverter(new ClearanceConverter(securityService));
+        inOrder.verify(conversionService).addConverter(new ClearanceReverseConverter(propertyCache, conversionService));
+        inOrder.verify(clearanceWarmUp).run();
     }
 
     @Test
@@ -1,8 +1,10 @@
 package io.github.naomimyselfandi.staticsecurity.core;
 
 import io.github.naomimyselfandi.staticsecurity.AccessPolicy;
+import io.github.naomimyselfandi.staticsecurity.CacheStatistics;
 import io.github.naomimyselfandi.staticsecurity.Clearance;
 import io.github.naomimyselfandi.staticsecurity.ClearanceSourceException;
+import io.github.naomimyselfandi.staticsecurity.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +12,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.ResolvableType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,16 +46,37 @@ class StaticSecurityServiceImplTest {
     private Cache<Class<?>, List<? extends AccessPolicy<?>>> accessPolicyCache;
 
     @Mock
-    private Cache<ResolvableType, Object> beanCache;
+    private ClearanceModel model;
+
+    @Mock
+    private Cache<Class<?>, ClearanceModel> clearanceModelCache;
 
     @Mock
     private Cache<DataSourceKey, Optional<? extends DataSource<?>>> dataSourceCache;
 
+    @Mock
+    private Cache<Class<?>, Prefetch> prefetchCache;
+
+    @Mock
+    private Prefetch prefetch;
+
+    @Mock
+    private Cache<Class<?>, List<Property>> propertyCache;
+
+    @Mock
+    private Property property;
+
     private StaticSecurityServiceImpl fixture;
 
     @BeforeEach
     void setup() {
-        fixture = new StaticSecurityServiceImpl(accessPolicyCache, beanCache, dataSourceCache);
+        fixture = new StaticSecurityServiceImpl(
+                accessPolicyCache,
+                clearanceModelCache,
+                dataSourceCache,
+                prefetchCache,
+                propertyCache,
+                List.of(propertyCache, dataSourceCache));
     }
 
     @ParameterizedTest
@@ -64,6 +87,25 @@ class StaticSecurityServiceImplTest {
         assertThat(fixture.canCreate(Source.class, TestClearance.class)).isEqualTo(expected);
     }
 
+    @Test
+    void getProperties() {
+        when(propertyCache.get(TestClearance.class)).thenReturn(List.of(property));
+        assertThat(fixture.getProperties(TestClearance.class)).containsExactly(property);
+    }
+
+    @Test
+    void getCacheStatistics() {
+        var propertyStatistics = new CacheStatistics(1, 2, 0, Duration.ofMillis(3));
+        var dataSourceStatistics = new CacheStatistics(4, 5, 6, Duration.ofMillis(7));
+        when(propertyCache.name()).thenReturn("propertyCache");
+        when(propertyCache.statistics()).thenReturn(propertyStatistics);
+        when(dataSourceCache.name()).thenReturn("dataSourceCache");
+        when(dataSourceCache.statistics()).thenReturn(dataSourceStatistics);
+        assertThat(fixture.getCacheStatistics()).isEqualTo(Map.of(
+                "propertyCache", propertyStatistics,
+                "dataSourceCache", dataSourceStatistics));
+    }
+
     @Test
     void canCreate_WhenTheTypeIsNotARequestType_ThenFalse() {
         interface NotARequestType {}
@@ -81,14 +123,16 @@ class StaticSecurityServiceImplTest {
     @Test
     void create() {
         try {
-            var data = Map.of(UUID.randomUUID().toString(), new Object());
+            var data = mock(ClearanceData.class);
             var key = new DataSourceKey(source.getClass(), TestClearance.class);
             when((Object) dataSourceCache.get(key)).thenReturn(Optional.of(dataSource));
             when(dataSource.getData(source)).thenReturn(() -> data);
             when((Object) accessPolicyCache.get(TestClearance.class)).thenReturn(List.of(foo, bar));
+            when(clearanceModelCache.get(TestClearance.class)).thenReturn(model);
+            when(prefetchCache.get(TestClearance.class)).thenReturn(prefetch);
             SecurityContextHolder.getContext().setAuthentication(auth);
             assertThat(fixture.create(source, TestClearance.class))
-                    .isEqualTo(new PendingClearanceImpl<>(TestClearance.class, data, List.of(foo, bar), beanCache));
+                    .isEqualTo(new PendingClearanceImpl<>(model, data, List.of(foo, bar), prefetch));
         } finally {
             SecurityContextHolder.clearContext();
         }
@@ -104,4 +148,33 @@ class StaticSecurityServiceImplTest {
                 .hasMessage("Cannot create %s from %s.", TestClearance.class, source);
     }
 
+    @Test
+    void createAll() {
+        var other = mock(Source.class);
+        var data = mock(ClearanceData.class);
+        var otherData = mock(ClearanceData.class);
+        when((Object) dataSourceCache.get(any())).thenReturn(Optional.of(dataSource));
+        when(dataSource.getData(source)).thenReturn(() -> data);
+        when(dataSource.getData(other)).thenReturn(() -> otherData);
+        when((Object) accessPolicyCache.get(TestClearance.class)).thenReturn(List.of(foo, bar));
+        when(clearanceModelCache.get(TestClearance.class)).thenReturn(model);
+        when(prefetchCache.get(TestClearance.class)).thenReturn(prefetch);
+        var result = fixture.createAll(List.of(source, other), TestClearance.class);
+        assertThat(result)
+                .hasSize(2)
+                .allSatisfy(it -> assertThat(it)
+                        .isInstanceOf(BatchPendingClearance.class)
+                        .extracting("policies")
+                        .isEqualTo(List.of(foo, bar)));
+        var first = (BatchPendingClearance<TestClearance>) result.get(0);
+        var second = (BatchPendingClearance<TestClearance>) result.get(1);
+        assertThat(first.batch()).isSameAs(second.batch());
+        assertThat(first.prefetch()).isSameAs(prefetch);
+        assertThat(first.index()).isEqualTo(0);
+        assertThat(second.index()).isEqualTo(1);
+        when(model.create(eq(auth), eq(otherData), any())).then(invocation -> mock(TestClearance.class));
+        when(model.create(eq(auth), eq(data), any())).then(invocation -> mock(TestClearance.class));
+        assertThat(second.batch().get(1, auth)).isNotNull();
+    }
+
 }
@@ -1,23 +1,43 @@
 package io.github.naomimyselfandi.staticsecurity.jackson;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.github.naomimyselfandi.staticsecurity.Clearance;
 import io.github.naomimyselfandi.staticsecurity.PendingClearance;
+import io.github.naomimyselfandi.staticsecurity.Property;
 import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +45,8 @@ class ClearanceDeserializerTest {
 
     private interface TestClearance extends Clearance {}
 
+    private interface Unreadable {}
+
     @Mock
     private PendingClearance<TestClearance> pendingClearance;
 
@@ -37,11 +59,16 @@ class ClearanceDeserializerTest {
     @Mock
     private StaticSecurityService staticSecurityService;
 
+    @Captor
+    private ArgumentCaptor<JsonFields> captor;
+
+    private final ConversionService conversionService = new DefaultConversionService();
+
     private ClearanceDeserializer<TestClearance> fixture;
 
     @BeforeEach
     void setup() {
-        fixture = new ClearanceDeserializer<>(TestClearance.class, staticSecurityService);
+        fixture = new ClearanceDeserializer<>(TestClearance.class, staticSecurityService, conversionService, null);
     }
 
     @Test
@@ -56,4 +83,139 @@ class ClearanceDeserializerTest {
         assertThat(fixture.deserialize(jsonParser, null)).isEqualTo(clearance);
     }
 
+    @Test
+    void deserialize_WhenFieldsAreKnown_ThenStreamsThem() throws IOException {
+        var objectMapper = streaming(
+                property("foo", TypeDescriptor.valueOf(UUID.class)),
+                property("bar", TypeDescriptor.valueOf(long.class)),
+                property("baz", TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(UUID.class))));
+        var uuid = UUID.randomUUID();
+        var json = """
+                {"foo": "%s", "unknown": {"nested": [1, 2, {"deeper": true}]}, "bar": 42, "baz": ["%s"]}
+                """.formatted(uuid, uuid);
+        assertThat(objectMapper.readValue(json, TestClearance.class)).isEqualTo(clearance);
+        assertThat(captor.getValue().values()).isEqualTo(Map.of("foo", uuid, "bar", 42L, "baz", List.of(uuid)));
+    }
+
+    @Test
+    void deserialize_WhenNumbersNeedConverting_ThenConvertsThem() throws IOException {
+        var objectMapper = streaming(
+                property("foo", TypeDescriptor.valueOf(BigDecimal.class)),
+                property("bar", TypeDescriptor.valueOf(String.class)),
+                property("baz", TypeDescriptor.valueOf(double.class)));
+        var json = """
+                {"foo": 1.5, "bar": 12345678901234567890, "baz": 7}
+                """;
+        assertThat(objectMapper.readValue(json, TestClearance.class)).isEqualTo(clearance);
+        assertThat(captor.getValue().values()).isEqualTo(Map.of(
+                "foo", new BigDecimal("1.5"),
+                "bar", "12345678901234567890",
+                "baz", 7.0));
+    }
+
+    @Test
+    void deserialize_WhenAValueIsNullOrInvalid_ThenOmitsIt() throws IOException {
+        var objectMapper = streaming(
+                property("foo", TypeDescriptor.valueOf(UUID.class)),
+                property("bar", TypeDescriptor.valueOf(String.class)),
+                property("baz", TypeDescriptor.valueOf(UUID.class)));
+        var json = """
+                {"foo": {"not": "a UUID"}, "bar": null, "baz": "%s", "baz": null}
+                """.formatted(UUID.randomUUID());
+        assertThat(objectMapper.readValue(json, TestClearance.class)).isEqualTo(clearance);
+        assertThat(captor.getValue().values()).isEmpty();
+    }
+
+    @Test
+    void deserialize_WhenAValueCannotBeRead_ThenOmitsIt() throws IOException {
+        var objectMapper = streaming(
+                property("foo", TypeDescriptor.valueOf(Unreadable.class)),
+                property("bar", TypeDescriptor.valueOf(String.class)));
+        objectMapper.registerModule(new SimpleModule().addDeserializer(Unreadable.class, new StdDeserializer<>(Unreadable.class) {
+
+            @Override
+            public Unreadable deserialize(JsonParser parser, DeserializationContext context) {
+                throw new IllegalArgumentException();
+            }
+
+        }));
+        var json = """
+                {"foo": {"bar": "baz"}, "bar": "bar"}
+                """;
+        assertThat(objectMapper.readValue(json, TestClearance.class)).isEqualTo(clearance);
+        assertThat(captor.getValue().values()).isEqualTo(Map.of("bar", "bar"));
+    }
+
+    @Test
+    void deserialize_WhenAPropertyIsRenamed_ThenReadsItsField() throws IOException {
+        var uuid = UUID.randomUUID();
+        var property = property("foo", TypeDescriptor.valueOf(UUID.class));
+        doReturn(List.of("documentId")).when(property).path();
+        var objectMapper = streaming(property);
+        var json = """
+                {"foo": "%s", "documentId": "%s"}
+                """.formatted(UUID.randomUUID(), uuid);
+        assertThat(objectMapper.readValue(json, TestClearance.class)).isEqualTo(clearance);
+        assertThat(captor.getValue().values()).isEqualTo(Map.of("foo", uuid));
+    }
+
+    @Test
+    void deserialize_WhenTheOnlyRequiredPropertyIsPresent_ThenStreamsIt() throws IOException {
+        var uuid = UUID.randomUUID();
+        var property = property("foo", TypeDescriptor.valueOf(UUID.class));
+        when(property.required()).thenReturn(true);
+        var objectMapper = streaming(property, property("bar", TypeDescriptor.valueOf(String.class)));
+        var json = """
+                {"foo": "%s", "bar": "bar"}
+                """.formatted(uuid);
+        assertThat(objectMapper.readValue(json, TestClearance.class)).isEqualTo(clearance);
+        assertThat(captor.getValue().values()).isEqualTo(Map.of("foo", uuid, "bar", "bar"));
+    }
+
+    @Test
+    void deserialize_WhenTheOnlyRequiredPropertyIsMissing_ThenReadsTree() throws IOException {
+        var property = property("foo", TypeDescriptor.valueOf(UUID.class));
+        when(property.required()).thenReturn(true);
+        var fields = Map.of("foo", JsonConversion.of(property, conversionService, TypeFactory.defaultInstance()));
+        fixture = new ClearanceDeserializer<>(TestClearance.class, staticSecurityService, conversionService, fields);
+        var node = new ObjectNode(JsonNodeFactory.instance, Map.of("bar", new TextNode("bar")));
+        when(staticSecurityService.create(node, TestClearance.class)).thenReturn(pendingClearance);
+        when(pendingClearance.require()).thenReturn(clearance);
+        var module = new SimpleModule().addDeserializer(TestClearance.class, fixture);
+        var json = """
+                {"bar": "bar"}
+                """;
+        assertThat(new ObjectMapper().registerModule(module).readValue(json, TestClearance.class)).isEqualTo(clearance);
+    }
+
+    @Test
+    void deserialize_WhenTheValueIsNotAnObject_ThenReadsTree() throws IOException {
+        var node = new TextNode(UUID.randomUUID().toString());
+        when(staticSecurityService.create(node, TestClearance.class)).thenReturn(pendingClearance);
+        when(pendingClearance.require()).thenReturn(clearance);
+        fixture = new ClearanceDeserializer<>(TestClearance.class, staticSecurityService, conversionService, Map.of());
+        var module = new SimpleModule().addDeserializer(TestClearance.class, fixture);
+        var json = "\"%s\"".formatted(node.textValue());
+        assertThat(new ObjectMapper().registerModule(module).readValue(json, TestClearance.class)).isEqualTo(clearance);
+    }
+
+    private ObjectMapper streaming(Property... properties) {
+        var fields = Arrays
+                .stream(properties)
+                .map(property -> JsonConversion.of(property, conversionService, TypeFactory.defaultInstance()))
+                .collect(Collectors.toMap(it -> it.field, Function.identity()));
+        fixture = new ClearanceDeserializer<>(TestClearance.class, staticSecurityService, conversionService, fields);
+        when(staticSecurityService.create(captor.capture(), eq(TestClearance.class))).thenReturn(pendingClearance);
+        when(pendingClearance.require()).thenReturn(clearance);
+        return new ObjectMapper().registerModule(new SimpleModule().addDeserializer(TestClearance.class, fixture));
+    }
+
+    private static Property property(String name, TypeDescriptor type) {
+        var property = mock(Property.class);
+        when(property.name()).thenReturn(name);
+        lenient().when(property.path()).thenCallRealMethod();
+        when(property.type()).thenReturn(type);
+        return property;
+    }
+
 }
@@ -3,6 +3,7 @@ package io.github.naomimyselfandi.staticsecurity.jackson;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.github.naomimyselfandi.staticsecurity.Clearance;
+import io.github.naomimyselfandi.staticsecurity.Property;
 import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
@@ -10,8 +11,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,6 +30,12 @@ class ClearanceDeserializersTest {
     @Mock
     private StaticSecurityService staticSecurityService;
 
+    @Mock
+    private ConversionService conversionService;
+
+    @Mock
+    private Property foo, bar;
+
     @InjectMocks
     private ClearanceDeserializers fixture;
 
@@ -32,7 +46,54 @@ class ClearanceDeserializersTest {
         assertThat(fixture.findBeanDeserializer(javaType, null, null))
                 .asInstanceOf(InstanceOfAssertFactories.type(ClearanceDeserializer.class))
                 .returns(TestClearance.class, it -> it.clearanceType)
-                .returns(staticSecurityService, it -> it.staticSecurityService);
+                .returns(staticSecurityService, it -> it.staticSecurityService)
+                .returns(conversionService, it -> it.conversionService)
+                .returns(null, it -> it.fields);
+    }
+
+    @Test
+    void findBeanDeserializer_WhenFieldsCanBeStreamed_ThenIncludesThem() {
+        when(staticSecurityService.canCreate(any(), eq(TestClearance.class))).thenReturn(true);
+        when(staticSecurityService.getProperties(TestClearance.class)).thenReturn(List.of(foo, bar));
+        when(foo.name()).thenReturn("foo");
+        when(foo.path()).thenCallRealMethod();
+        when(foo.type()).thenReturn(TypeDescriptor.valueOf(String.class));
+        when(bar.name()).thenReturn("bar");
+        when(bar.path()).thenCallRealMethod();
+        when(bar.type()).thenReturn(TypeDescriptor.valueOf(int.class));
+        var javaType = TypeFactory.defaultInstance().constructType(TestClearance.class);
+        assertThat(fixture.findBeanDeserializer(javaType, null, null))
+                .asInstanceOf(InstanceOfAssertFactories.type(ClearanceDeserializer.class))
+                .extracting(it -> it.fields)
+                .asInstanceOf(InstanceOfAssertFactories.map(String.class, JsonConversion.class))
+                .hasSize(2)
+                .hasEntrySatisfying("foo", it -> assertThat(it.property).isEqualTo(foo))
+                .hasEntrySatisfying("bar", it -> assertThat(it.property).isEqualTo(bar));
+        verify(staticSecurityService).canCreate(JsonFields.class, TestClearance.class);
+    }
+
+    @Test
+    void findBeanDeserializer_WhenAPathIsNested_ThenDoesNotStream() {
+        when(staticSecurityService.canCreate(any(), eq(TestClearance.class))).thenReturn(true);
+        when(staticSecurityService.getProperties(TestClearance.class)).thenReturn(List.of(foo, bar));
+        when(foo.path()).thenReturn(List.of("foo"));
+        when(foo.type()).thenReturn(TypeDescriptor.valueOf(String.class));
+        when(bar.path()).thenReturn(List.of("outer", "bar"));
+        when(bar.type()).thenReturn(TypeDescriptor.valueOf(int.class));
+        var javaType = TypeFactory.defaultInstance().constructType(TestClearance.class);
+        assertThat(fixture.findBeanDeserializer(javaType, null, null))
+                .asInstanceOf(InstanceOfAssertFactories.type(ClearanceDeserializer.class))
+                .returns(null, it -> it.fields);
+    }
+
+    @Test
+    void findBeanDeserializer_WhenThePropertiesAreUnknown_ThenDoesNotStream() {
+        when(staticSecurityService.canCreate(any(), eq(TestClearance.class))).thenReturn(true);
+        when(staticSecurityService.getProperties(TestClearance.class)).thenReturn(List.of());
+        var javaType = TypeFactory.defaultInstance().constructType(TestClearance.class);
+        assertThat(fixture.findBeanDeserializer(javaType, null, null))
+                .asInstanceOf(InstanceOfAssertFactories.type(ClearanceDeserializer.class))
+                .returns(null, it -> it.fields);
     }
 
     @Test
@@ -0,0 +1,194 @@
+package io.github.naomimyselfandi.staticsecurity.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.*;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JsonConversionTest {
+
+    @Mock
+    private Property property;
+
+    @Mock
+    private DeserializationContext context;
+
+    private final ConversionService conversionService = new DefaultConversionService();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setup() {
+        lenient().when(property.type()).thenReturn(TypeDescriptor.valueOf(String.class));
+        lenient().when(property.path()).thenReturn(List.of("foo"));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void kindOfNode(JsonNode node, JsonConversion.Kind expected) {
+        assertThat(JsonConversion.Kind.of(node)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void kindOfToken(String json, boolean bigDecimals, JsonConversion.Kind expected) throws IOException {
+        lenient().when(context.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)).thenReturn(bigDecimals);
+        try (var parser = objectMapper.createParser(json)) {
+            parser.nextToken();
+            assertThat(JsonConversion.Kind.of(parser, context)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void route() {
+        var fixture = JsonConversion.of(property, conversionService, TypeFactory.defaultInstance());
+        for (var kind : JsonConversion.Kind.values()) {
+            assertThat(fixture.route(kind)).extracting(JsonConversion.Route::source).isEqualTo(kind);
+        }
+        assertThat(fixture.route(null)).isNull();
+    }
+
+    @Test
+    void route_WhenTheSpecificConversionIsImpossible_ThenFallsBack() {
+        var targetType = TypeDescriptor.valueOf(BigDecimal.class);
+        var conversionService = new DefaultConversionService();
+        conversionService.removeConvertible(Number.class, Number.class);
+        conversionService.addConverter(BigInteger.class, BigDecimal.class, BigDecimal::new);
+        when(property.type()).thenReturn(targetType);
+        var fixture = JsonConversion.of(property, conversionService, TypeFactory.defaultInstance());
+        var route = fixture.route(JsonConversion.Kind.INTEGER);
+        assertThat(route).extracting(JsonConversion.Route::source).isEqualTo(JsonConversion.Kind.BIG_INTEGER);
+        assertThat(route.convert(new IntNode(42))).isEqualTo(new BigDecimal(42));
+        assertThat(fixture.route(JsonConversion.Kind.DOUBLE)).isNull();
+    }
+
+    @Test
+    void route_WhenNoConversionIsPossible_ThenNull() {
+        when(property.type()).thenReturn(TypeDescriptor.valueOf(Runnable.class));
+        var fixture = JsonConversion.of(property, conversionService, TypeFactory.defaultInstance());
+        for (var kind : JsonConversion.Kind.values()) {
+            assertThat(fixture.route(kind)).isNull();
+        }
+    }
+
+    @Test
+    void route_WhenAConverterIsRegisteredLater_ThenUsesIt() {
+        var conversionService = new DefaultConversionService();
+        when(property.type()).thenReturn(TypeDescriptor.valueOf(Runnable.class));
+        var fixture = JsonConversion.of(property, conversionService, TypeFactory.defaultInstance());
+        assertThat(fixture.route(JsonConversion.Kind.STRING)).isNull();
+        Runnable runnable = () -> {};
+        conversionService.addConverter(String.class, Runnable.class, source -> runnable);
+        var route = fixture.route(JsonConversion.Kind.STRING);
+        assertThat(route).isNotNull().isSameAs(fixture.route(JsonConversion.Kind.STRING));
+        assertThat(route.convert(new TextNode("x"))).isSameAs(runnable);
+    }
+
+    @ParameterizedTest
+    @MethodSource("kindOfNode")
+    void convertNode(JsonNode node, JsonConversion.Kind kind) {
+        var fixture = JsonConversion.of(property, conversionService, TypeFactory.defaultInstance());
+        var route = fixture.route(kind);
+        assertThat(route).isNotNull();
+        var expected = node.isFloat() ? Double.toString(node.doubleValue()) : node.asText();
+        assertThat(route.convert(node)).isEqualTo(expected);
+    }
+
+    @Test
+    void convertToken() throws IOException {
+        var uuid = UUID.randomUUID();
+        when(property.type()).thenReturn(TypeDescriptor.valueOf(UUID.class));
+        var fixture = JsonConversion.of(property, conversionService, TypeFactory.defaultInstance());
+        try (var parser = objectMapper.createParser("\"%s\"".formatted(uuid))) {
+            parser.nextToken();
+            assertThat(fixture.route(JsonConversion.Kind.STRING).convert(parser)).isEqualTo(uuid);
+        }
+    }
+
+    @Test
+    void find() {
+        var value = new TextNode(UUID.randomUUID().toString());
+        var fixture = JsonConversion.of(property, conversionService, TypeFactory.defaultInstance());
+        var source = JsonNodeFactory.instance.objectNode().set("foo", value);
+        assertThat(fixture.find(source)).isEqualTo(value);
+        assertThat(fixture.pointer).isNull();
+    }
+
+    @Test
+    void find_WhenThePathIsNested_ThenFollowsIt() {
+        var value = new TextNode(UUID.randomUUID().toString());
+        when(property.path()).thenReturn(List.of("a/b", "1", "~c"));
+        var fixture = JsonConversion.of(property, conversionService, TypeFactory.defaultInstance());
+        var factory = JsonNodeFactory.instance;
+        var source = factory.objectNode().set("a/b", factory.arrayNode().add(1).add(factory.objectNode().set("~c", value)));
+        assertThat(fixture.find(source)).isEqualTo(value);
+        assertThat(fixture.find(factory.objectNode()).isMissingNode()).isTrue();
+    }
+
+    @Test
+    void javaType() {
+        var type = TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(UUID.class));
+        when(property.type()).thenReturn(type);
+        var typeFactory = TypeFactory.defaultInstance();
+        var fixture = JsonConversion.of(property, conversionService, typeFactory);
+        assertThat(fixture.javaType).isEqualTo(typeFactory.constructCollectionType(List.class, UUID.class));
+        assertThat(fixture.property).isEqualTo(property);
+    }
+
+    private static Stream<Arguments> kindOfNode() {
+        return Stream.of(
+                Arguments.of(new TextNode(UUID.randomUUID().toString()), JsonConversion.Kind.STRING),
+                Arguments.of(BooleanNode.TRUE, JsonConversion.Kind.BOOLEAN),
+                Arguments.of(new ShortNode((short) 42), JsonConversion.Kind.SHORT),
+                Arguments.of(new IntNode(42), JsonConversion.Kind.INTEGER),
+                Arguments.of(new LongNode(42L), JsonConversion.Kind.LONG),
+                Arguments.of(new BigIntegerNode(BigInteger.TEN), JsonConversion.Kind.BIG_INTEGER),
+                Arguments.of(new DecimalNode(BigDecimal.ONE), JsonConversion.Kind.BIG_DECIMAL),
+                Arguments.of(new DoubleNode(1.5), JsonConversion.Kind.DOUBLE),
+                Arguments.of(new FloatNode(1.5f), JsonConversion.Kind.DOUBLE)
+        );
+    }
+
+    private static Stream<Arguments> kindOfToken() {
+        return Stream.of(
+                Arguments.of("\"text\"", false, JsonConversion.Kind.STRING),
+                Arguments.of("true", false, JsonConversion.Kind.BOOLEAN),
+                Arguments.of("false", false, JsonConversion.Kind.BOOLEAN),
+                Arguments.of("42", false, JsonConversion.Kind.INTEGER),
+                Arguments.of("12345678901", false, JsonConversion.Kind.LONG),
+                Arguments.of("12345678901234567890", false, JsonConversion.Kind.BIG_INTEGER),
+                Arguments.of("1.5", false, JsonConversion.Kind.DOUBLE),
+                Arguments.of("1.5", true, JsonConversion.Kind.BIG_DECIMAL),
+                Arguments.of("null", false, null),
+                Arguments.of("[]", false, null),
+                Arguments.of("{}", false, null)
+        );
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.github.naomimyselfandi.staticsecurity.jackson;
+
+import io.github.naomimyselfandi.staticsecurity.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JsonFieldsPropertyProviderTest {
+
+    @Mock
+    private Property property;
+
+    private final JsonFieldsPropertyProvider fixture = new JsonFieldsPropertyProvider();
+
+    @Test
+    void extract() {
+        var value = UUID.randomUUID();
+        when(property.name()).thenReturn("foo");
+        assertThat(fixture.extract(new JsonFields(Map.of("foo", value)), property)).isEqualTo(value);
+        assertThat(fixture.extract(new JsonFields(Map.of()), property)).isNull();
+    }
+
+    @Test
+    void flatten() {
+        assertThat(fixture.flatten(new JsonFields(Map.of("foo", UUID.randomUUID())), property)).isNull();
+        assertThat(fixture.canFlatten(property)).isFalse();
+    }
+
+    @Test
+    void getSourceType() {
+        assertThat(fixture.getSourceType()).isEqualTo(JsonFields.class);
+    }
+
+}
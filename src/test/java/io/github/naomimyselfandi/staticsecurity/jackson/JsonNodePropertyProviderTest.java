@@ -1,5 +1,6 @@
 package io.github.naomimyselfandi.staticsecurity.jackson;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.node.*;
 import com.fasterxml.jackson.databind.type.TypeFactory;
@@ -65,6 +66,7 @@ class JsonNodePropertyProviderTest {
     @BeforeEach
     void setup() throws NoSuchMethodException {
         lenient().when(property.name()).thenReturn(UUID.randomUUID().toString());
+        lenient().when(property.path()).thenCallRealMethod();
         lenient().when(property.type()).thenReturn(SOMETHING);
         lenient().when(objectMapper.getTypeFactory()).thenReturn(TypeFactory.defaultInstance());
         var objectMapperProvider = new ObjectProvider<ObjectMapper>() {
@@ -79,42 +81,42 @@ class JsonNodePropertyProviderTest {
 
     @ParameterizedTest
     @MethodSource("nodes")
-    void extract(JsonNode node) {
-        when(objectMapper.convertValue(node, Something.JAVA_TYPE)).thenReturn(something);
+    void extract(JsonNode node) throws JsonProcessingException {
+        when(objectMapper.treeToValue(node, Something.JAVA_TYPE)).thenReturn(something);
         var source = new ObjectNode(JsonNodeFactory.instance, Map.of(property.name(), node));
         assertThat(fixture.extract(source, property)).isEqualTo(something);
     }
 
     @ParameterizedTest
     @MethodSource("nodes")
-    void flatten(JsonNode node) {
-        when(objectMapper.convertValue(node, Something.JAVA_TYPE)).thenReturn(something);
+    void flatten(JsonNode node) throws JsonProcessingException {
+        when(objectMapper.treeToValue(node, Something.JAVA_TYPE)).thenReturn(something);
         assertThat(fixture.flatten(node, property)).isEqualTo(something);
     }
 
     @ParameterizedTest
     @MethodSource("nodes")
-    void extract_GenericType(JsonNode node) {
+    void extract_GenericType(JsonNode node) throws JsonProcessingException {
         when(property.type()).thenReturn(TypeDescriptor.collection(List.class, SOMETHING));
-        when(objectMapper.convertValue(node, Something.LIST_TYPE)).thenReturn(List.of(something));
+        when(objectMapper.treeToValue(node, Something.LIST_TYPE)).thenReturn(List.of(something));
         var source = new ObjectNode(JsonNodeFactory.instance, Map.of(property.name(), node));
         assertThat(fixture.extract(source, property)).isEqualTo(List.of(something));
     }
 
     @ParameterizedTest
     @MethodSource("nodes")
-    void flatten_GenericType(JsonNode node) {
+    void flatten_GenericType(JsonNode node) throws JsonProcessingException {
         when(property.type()).thenReturn(TypeDescriptor.collection(List.class, SOMETHING));
-        when(objectMapper.convertValue(node, Something.LIST_TYPE)).thenReturn(List.of(something));
+        when(objectMapper.treeToValue(node, Something.LIST_TYPE)).thenReturn(List.of(something));
         assertThat(fixture.flatten(node, property)).isEqualTo(List.of(something));
     }
 
     @ParameterizedTest
     @MethodSource("nodes")
-    void extract_WhenTheNodeCannotBeConverted_ThenNull(JsonNode node) {
-        when(objectMapper.convertValue(node, Something.JAVA_TYPE)).then(invocation -> {
+    void extract_WhenTheNodeCannotBeConverted_ThenNull(JsonNode node) throws JsonProcessingException {
+        when(objectMapper.treeToValue(node, Something.JAVA_TYPE)).then(invocation -> {
             var realObjectMapper = new ObjectMapper();
-            return realObjectMapper.convertValue(node, Something.JAVA_TYPE); // will throw
+            return realObjectMapper.treeToValue(node, Something.JAVA_TYPE); // will throw
         });
         var source = new ObjectNode(JsonNodeFactory.instance, Map.of(property.name(), node));
         assertThat(fixture.extract(source, property)).isNull();
@@ -122,14 +124,23 @@ class JsonNodePropertyProviderTest {
 
     @ParameterizedTest
     @MethodSource("nodes")
-    void flatten_WhenTheNodeCannotBeConverted_ThenNull(JsonNode node) {
-        when(objectMapper.convertValue(node, Something.JAVA_TYPE)).then(invocation -> {
+    void flatten_WhenTheNodeCannotBeConverted_ThenNull(JsonNode node) throws JsonProcessingException {
+        when(objectMapper.treeToValue(node, Something.JAVA_TYPE)).then(invocation -> {
             var realObjectMapper = new ObjectMapper();
-            return realObjectMapper.convertValue(node, Something.JAVA_TYPE); // will throw
+            return realObjectMapper.treeToValue(node, Something.JAVA_TYPE); // will throw
         });
         assertThat(fixture.flatten(node, property)).isNull();
     }
 
+    @Test
+    void extract_WhenThePathIsNested_ThenFollowsIt() throws JsonProcessingException {
+        var node = new ObjectNode(JsonNodeFactory.instance);
+        doReturn(List.of("outer", "inner")).when(property).path();
+        when(objectMapper.treeToValue(node, Something.JAVA_TYPE)).thenReturn(something);
+        var source = new ObjectNode(JsonNodeFactory.instance, Map.of("outer", wrap(node, "inner")));
+        assertThat(fixture.extract(source, property)).isEqualTo(something);
+    }
+
     @Test
     void extract_WhenTheKeyDoesNotExist_ThenNull() {
         assertThat(fixture.extract(new ObjectNode(JsonNodeFactory.instance), property)).isNull();
@@ -160,79 +171,79 @@ class JsonNodePropertyProviderTest {
     @Test
     void extract_WhenTheSourceIsATextNode_ThenTriesTheConversionService() {
         var value = UUID.randomUUID().toString();
-        when(conversionService.canConvert(STRING, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(STRING, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, STRING, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(new TextNode(value)), property)).isEqualTo(something);
     }
 
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void extract_WhenTheSourceIsABooleanNode_ThenTriesTheConversionService(boolean value) {
-        when(conversionService.canConvert(BOOLEAN, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(BOOLEAN, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, BOOLEAN, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(BooleanNode.valueOf(value)), property)).isEqualTo(something);
     }
 
     @Test
     void extract_WhenTheSourceIsAnIntNode_ThenTriesTheConversionService() {
         var value = ThreadLocalRandom.current().nextInt();
-        when(conversionService.canConvert(INTEGER, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(INTEGER, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, INTEGER, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(new IntNode(value)), property)).isEqualTo(something);
     }
 
     @Test
     void extract_WhenTheSourceIsAShortNode_ThenTriesTheConversionService() {
         var value = (short) ThreadLocalRandom.current().nextInt();
-        when(conversionService.canConvert(SHORT, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(SHORT, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, SHORT, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(new ShortNode(value)), property)).isEqualTo(something);
     }
 
     @Test
     void extract_WhenTheSourceIsAnLongNode_ThenTriesTheConversionService() {
         var value = ThreadLocalRandom.current().nextLong();
-        when(conversionService.canConvert(LONG, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(LONG, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, LONG, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(new LongNode(value)), property)).isEqualTo(something);
     }
 
     @Test
     void extract_WhenTheSourceIsAnBigIntNode_ThenTriesTheConversionService() {
         var value = BigInteger.valueOf(ThreadLocalRandom.current().nextLong());
-        when(conversionService.canConvert(BIG_INTEGER, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(BIG_INTEGER, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, BIG_INTEGER, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(new BigIntegerNode(value)), property)).isEqualTo(something);
     }
 
     @Test
     void extract_WhenTheSourceIsAnBigDecimalNode_ThenTriesTheConversionService() {
         var value = BigDecimal.valueOf(ThreadLocalRandom.current().nextDouble());
-        when(conversionService.canConvert(BIG_DECIMAL, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(BIG_DECIMAL, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, BIG_DECIMAL, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(new DecimalNode(value)), property)).isEqualTo(something);
     }
 
     @Test
     void extract_WhenTheSourceIsADoubleNode_ThenTriesTheConversionService() {
         var value = ThreadLocalRandom.current().nextDouble();
-        when(conversionService.canConvert(DOUBLE, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(DOUBLE, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, DOUBLE, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(new DoubleNode(value)), property)).isEqualTo(something);
     }
 
     @Test
     void extract_WhenTheSourceIsAFloatNode_ThenTriesTheConversionService() {
         var value = ThreadLocalRandom.current().nextFloat();
-        when(conversionService.canConvert(DOUBLE, SOMETHING)).thenReturn(true);
-        when(conversionService.convert((double) value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(DOUBLE, SOMETHING)).thenReturn(true);
+        when(conversionService.convert((double) value, DOUBLE, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(new FloatNode(value)), property)).isEqualTo(something);
     }
 
     @Test
     void extract_WhenTheSourceIsAPojoNode_ThenTriesTheConversionService() {
         var value = new Object() {};
-        when(conversionService.canConvert(TypeDescriptor.forObject(value), SOMETHING)).thenReturn(true);
+        lenient().when(conversionService.canConvert(TypeDescriptor.forObject(value), SOMETHING)).thenReturn(true);
         when(conversionService.convert(value, SOMETHING)).thenReturn(something);
         assertThat(fixture.extract(wrap(new POJONode(value)), property)).isEqualTo(something);
     }
@@ -240,83 +251,101 @@ class JsonNodePropertyProviderTest {
     @Test
     void flatten_WhenTheSourceIsATextNode_ThenTriesTheConversionService() {
         var value = UUID.randomUUID().toString();
-        when(conversionService.canConvert(STRING, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(STRING, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, STRING, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(new TextNode(value), property)).isEqualTo(something);
     }
 
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void flatten_WhenTheSourceIsABooleanNode_ThenTriesTheConversionService(boolean value) {
-        when(conversionService.canConvert(BOOLEAN, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(BOOLEAN, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, BOOLEAN, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(BooleanNode.valueOf(value), property)).isEqualTo(something);
     }
 
     @Test
     void flatten_WhenTheSourceIsAnIntNode_ThenTriesTheConversionService() {
         var value = ThreadLocalRandom.current().nextInt();
-        when(conversionService.canConvert(INTEGER, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(INTEGER, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, INTEGER, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(new IntNode(value), property)).isEqualTo(something);
     }
 
     @Test
     void flatten_WhenTheSourceIsAShortNode_ThenTriesTheConversionService() {
         var value = (short) ThreadLocalRandom.current().nextInt();
-        when(conversionService.canConvert(SHORT, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(SHORT, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, SHORT, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(new ShortNode(value), property)).isEqualTo(something);
     }
 
     @Test
     void flatten_WhenTheSourceIsAnLongNode_ThenTriesTheConversionService() {
         var value = ThreadLocalRandom.current().nextLong();
-        when(conversionService.canConvert(LONG, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(LONG, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, LONG, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(new LongNode(value), property)).isEqualTo(something);
     }
 
     @Test
     void flatten_WhenTheSourceIsAnBigIntNode_ThenTriesTheConversionService() {
         var value = BigInteger.valueOf(ThreadLocalRandom.current().nextLong());
-        when(conversionService.canConvert(BIG_INTEGER, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(BIG_INTEGER, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, BIG_INTEGER, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(new BigIntegerNode(value), property)).isEqualTo(something);
     }
 
     @Test
     void flatten_WhenTheSourceIsAnBigDecimalNode_ThenTriesTheConversionService() {
         var value = BigDecimal.valueOf(ThreadLocalRandom.current().nextDouble());
-        when(conversionService.canConvert(BIG_DECIMAL, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(BIG_DECIMAL, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, BIG_DECIMAL, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(new DecimalNode(value), property)).isEqualTo(something);
     }
 
     @Test
     void flatten_WhenTheSourceIsADoubleNode_ThenTriesTheConversionService() {
         var value = ThreadLocalRandom.current().nextDouble();
-        when(conversionService.canConvert(DOUBLE, SOMETHING)).thenReturn(true);
-        when(conversionService.convert(value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(DOUBLE, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, DOUBLE, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(new DoubleNode(value), property)).isEqualTo(something);
     }
 
     @Test
     void flatten_WhenTheSourceIsAFloatNode_ThenTriesTheConversionService() {
         var value = ThreadLocalRandom.current().nextFloat();
-        when(conversionService.canConvert(DOUBLE, SOMETHING)).thenReturn(true);
-        when(conversionService.convert((double) value, SOMETHING)).thenReturn(something);
+        lenient().when(conversionService.canConvert(DOUBLE, SOMETHING)).thenReturn(true);
+        when(conversionService.convert((double) value, DOUBLE, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(new FloatNode(value), property)).isEqualTo(something);
     }
 
     @Test
     void flatten_WhenTheSourceIsAPojoNode_ThenTriesTheConversionService() {
         var value = new Object() {};
-        when(conversionService.canConvert(TypeDescriptor.forObject(value), SOMETHING)).thenReturn(true);
+        lenient().when(conversionService.canConvert(TypeDescriptor.forObject(value), SOMETHING)).thenReturn(true);
         when(conversionService.convert(value, SOMETHING)).thenReturn(something);
         assertThat(fixture.flatten(new POJONode(value), property)).isEqualTo(something);
     }
 
+    @Test
+    void flatten_ResolvesConversionsOncePerProperty() {
+        var value = UUID.randomUUID().toString();
+        lenient().when(conversionService.canConvert(STRING, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(value, STRING, SOMETHING)).thenReturn(something);
+        assertThat(fixture.flatten(new TextNode(value), property)).isEqualTo(something);
+        assertThat(fixture.flatten(new TextNode(value), property)).isEqualTo(something);
+        verify(conversionService).canConvert(STRING, SOMETHING);
+    }
+
+    @Test
+    void flatten_WhenTheNodeTypeCannotBeConvertedDirectly_ThenTriesWiderTypes() {
+        var value = ThreadLocalRandom.current().nextInt();
+        lenient().when(conversionService.canConvert(BIG_INTEGER, SOMETHING)).thenReturn(true);
+        when(conversionService.convert(BigInteger.valueOf(value), BIG_INTEGER, SOMETHING)).thenReturn(something);
+        assertThat(fixture.flatten(new IntNode(value), property)).isEqualTo(something);
+    }
+
     private static Stream<JsonNode> nodes() {
         return Stream.of(
                 new TextNode(UUID.randomUUID().toString()),
@@ -336,7 +365,11 @@ class JsonNodePropertyProviderTest {
     }
 
     private JsonNode wrap(JsonNode node) {
-        return new ObjectNode(JsonNodeFactory.instance, Map.of(property.name(), node));
+        return wrap(node, property.name());
+    }
+
+    private static JsonNode wrap(JsonNode node, String name) {
+        return new ObjectNode(JsonNodeFactory.instance, Map.of(name, node));
     }
 
 }
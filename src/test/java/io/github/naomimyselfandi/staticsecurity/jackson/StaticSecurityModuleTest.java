@@ -12,6 +12,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.ConversionService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
@@ -28,6 +29,9 @@ class StaticSecurityModuleTest {
     @Mock
     private StaticSecurityService staticSecurityService;
 
+    @Mock
+    private ConversionService conversionService;
+
     @InjectMocks
     private StaticSecurityModule fixture;
 
@@ -54,6 +58,7 @@ class StaticSecurityModuleTest {
         assertThat(captor.getValue())
                 .asInstanceOf(InstanceOfAssertFactories.type(ClearanceDeserializers.class))
                 .returns(staticSecurityService, it -> it.staticSecurityService)
+                .returns(conversionService, it -> it.conversionService)
                 .satisfies(it -> verify(setupContext).addKeyDeserializers(it));
     }
 
@@ -0,0 +1,61 @@
+package io.github.naomimyselfandi.staticsecurity.micrometer;
+
+import io.github.naomimyselfandi.staticsecurity.CacheStatistics;
+import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheMetricsTest {
+
+    @Mock
+    private StaticSecurityService staticSecurityService;
+
+    private SimpleMeterRegistry registry;
+
+    private CacheMetrics fixture;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        fixture = new CacheMetrics(staticSecurityService);
+    }
+
+    @Test
+    void bindTo() {
+        var statistics = new CacheStatistics(1, 2, 3, Duration.ofMillis(4));
+        when(staticSecurityService.getCacheStatistics()).thenReturn(Map.of("someCache", statistics));
+        fixture.bindTo(registry);
+        var hits = registry.get("staticsecurity.cache.gets").tags("cache", "someCache", "result", "hit");
+        assertThat(hits.functionCounter().count()).isEqualTo(1);
+        var misses = registry.get("staticsecurity.cache.gets").tags("cache", "someCache", "result", "miss");
+        assertThat(misses.functionCounter().count()).isEqualTo(2);
+        var evictions = registry.get("staticsecurity.cache.evictions").tags("cache", "someCache");
+        assertThat(evictions.functionCounter().count()).isEqualTo(3);
+        var computations = registry.get("staticsecurity.cache.computations").tags("cache", "someCache");
+        assertThat(computations.functionTimer().count()).isEqualTo(2);
+        assertThat(computations.functionTimer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4);
+    }
+
+    @Test
+    void bindTo_ReadsTheLatestStatistics() {
+        when(staticSecurityService.getCacheStatistics()).thenReturn(
+                Map.of("someCache", new CacheStatistics(1, 0, 0, Duration.ZERO)),
+                Map.of("someCache", new CacheStatistics(5, 0, 0, Duration.ZERO)));
+        fixture.bindTo(registry);
+        var hits = registry.get("staticsecurity.cache.gets").tags("cache", "someCache", "result", "hit");
+        assertThat(hits.functionCounter().count()).isEqualTo(5);
+    }
+
+}
@@ -0,0 +1,43 @@
+package io.github.naomimyselfandi.staticsecurity.micrometer;
+
+import io.github.naomimyselfandi.staticsecurity.CacheStatistics;
+import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StaticSecurityMicrometerConfigurationTest {
+
+    @Mock
+    private StaticSecurityService staticSecurityService;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistries;
+
+    @InjectMocks
+    private StaticSecurityMicrometerConfiguration fixture;
+
+    @Test
+    void afterSingletonsInstantiated() {
+        var registry = new SimpleMeterRegistry();
+        when(meterRegistries.iterator()).then(invocation -> List.of(registry).iterator());
+        when(staticSecurityService.getCacheStatistics())
+                .thenReturn(Map.of("someCache", new CacheStatistics(1, 2, 3, Duration.ZERO)));
+        fixture.afterSingletonsInstantiated();
+        assertThat(registry.get("staticsecurity.cache.evictions").functionCounter().count()).isEqualTo(3);
+    }
+
+}
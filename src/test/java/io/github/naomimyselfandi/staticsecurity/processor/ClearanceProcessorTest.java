@@ -0,0 +1,160 @@
+package io.github.naomimyselfandi.staticsecurity.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClearanceProcessorTest {
+
+    private static final String TEST_CLEARANCE = """
+            package com.example;
+
+            import io.github.naomimyselfandi.staticsecurity.Clearance;
+            import java.util.List;
+            import java.util.Optional;
+
+            public interface TestClearance extends Clearance {
+
+                String getName();
+
+                int getAge();
+
+                Optional<String> getNickname();
+
+                default boolean isActive() {
+                    return true;
+                }
+
+                @Helper(Helper.Type.CACHED)
+                default String greeting(String prefix) {
+                    return prefix + getName();
+                }
+
+                @Helper(Helper.Type.DIRECT)
+                default String direct() {
+                    return "";
+                }
+
+                @Helper(Helper.Type.SPRING)
+                Runnable runnable();
+
+                void unsupported(int value) throws java.io.IOException;
+
+                <T extends Number> T generic(List<T> values);
+
+                interface Nested extends Clearance {
+                    String getValue();
+                }
+
+            }
+            """;
+
+    private static final String SKIPPED = """
+            package com.example;
+
+            import io.github.naomimyselfandi.staticsecurity.Clearance;
+
+            class Skipped {
+
+                private interface Hidden extends Clearance {}
+
+                interface UsesHidden extends Clearance {
+                    Hidden getHidden();
+                }
+
+                interface Generic<T> extends Clearance {
+                    T getValue();
+                }
+
+                interface NotAClearance {
+                    String getValue();
+                }
+
+            }
+            """;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void process() throws Exception {
+        try (var loader = compile(Map.of("TestClearance", TEST_CLEARANCE, "Skipped", SKIPPED))) {
+            var implementation = loader.loadClass("com.example.TestClearance$StaticSecurity");
+            assertThat(implementation)
+                    .isPublic()
+                    .isFinal()
+                    .hasSuperclass(loader.loadClass("io.github.naomimyselfandi.staticsecurity.core.GeneratedClearance"))
+                    .isAssignableTo(loader.loadClass("com.example.TestClearance"));
+            assertThat((Object[][]) implementation.getField("PROPERTIES").get(null)).isDeepEqualTo(new Object[][]{
+                    {"age", "getAge", true},
+                    {"name", "getName", true},
+                    {"nickname", "getNickname", false},
+                    {"active", "isActive", false},
+            });
+            assertThat((Object[][]) implementation.getField("METHODS").get(null)).isDeepEqualTo(new Object[][]{
+                    {"generic", List.class},
+                    {"greeting", String.class},
+                    {"runnable"},
+                    {"unsupported", int.class},
+            });
+            assertThat(loader.loadClass("com.example.TestClearance$Nested$StaticSecurity")).isNotNull();
+            for (var skipped : List.of("Hidden", "UsesHidden", "Generic", "NotAClearance")) {
+                assertThatThrownBy(() -> loader.loadClass("com.example.Skipped$%s$StaticSecurity".formatted(skipped)))
+                        .isInstanceOf(ClassNotFoundException.class);
+            }
+            assertThat(tempDir.resolve("classes").resolve(ClearanceProcessor.INDEX)).content().isEqualTo("""
+                    com.example.TestClearance=com.example.TestClearance$StaticSecurity
+                    com.example.TestClearance$Nested=com.example.TestClearance$Nested$StaticSecurity
+                    """);
+        }
+    }
+
+    @Test
+    void process_WhenAnIndexAlreadyExists_ThenMergesIt() throws Exception {
+        var index = tempDir.resolve("classes").resolve(ClearanceProcessor.INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "com.example.Other=com.example.Other$StaticSecurity\n");
+        compile(Map.of("TestClearance", TEST_CLEARANCE)).close();
+        assertThat(index).content().isEqualTo("""
+                com.example.Other=com.example.Other$StaticSecurity
+                com.example.TestClearance=com.example.TestClearance$StaticSecurity
+                com.example.TestClearance$Nested=com.example.TestClearance$Nested$StaticSecurity
+                """);
+    }
+
+    private URLClassLoader compile(Map<String, String> sources) throws IOException {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        var fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        var sourceDirectory = Files.createDirectories(tempDir.resolve("src/com/example"));
+        var files = new ArrayList<Path>();
+        for (var entry : sources.entrySet()) {
+            files.add(Files.writeString(sourceDirectory.resolve(entry.getKey() + ".java"), entry.getValue()));
+        }
+        var classes = Files.createDirectories(tempDir.resolve("classes"));
+        var generated = Files.createDirectories(tempDir.resolve("generated"));
+        var options = List.of(
+                "-d", classes.toString(),
+                "-s", generated.toString(),
+                "-classpath", System.getProperty("java.class.path"));
+        var task = compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromPaths(files));
+        task.setProcessors(List.of(new ClearanceProcessor()));
+        assertThat(task.call()).describedAs("%s", diagnostics.getDiagnostics()).isTrue();
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+}
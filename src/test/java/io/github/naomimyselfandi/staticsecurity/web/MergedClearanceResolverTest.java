@@ -189,4 +189,24 @@ class MergedClearanceResolverTest {
         verifyNoMoreInteractions(contributor);
     }
 
+    @Test
+    void precompile() {
+        when(parameter.getParameterAnnotation(MergedClearance.class)).thenReturn(mergedClearance);
+        doReturn(TestClearance.class).when(parameter).getParameterType();
+        doReturn(Helper.class).when(mergedClearance).value();
+        when(staticSecurityService.canCreate(Helper.class, TestClearance.class)).thenReturn(true);
+        assertThatCode(() -> fixture.precompile(parameter)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void precompile_WhenTheClearanceCannotBeCreated_ThenThrows() {
+        when(parameter.getParameterAnnotation(MergedClearance.class)).thenReturn(mergedClearance);
+        doReturn(TestClearance.class).when(parameter).getParameterType();
+        doReturn(Helper.class).when(mergedClearance).value();
+        when(staticSecurityService.canCreate(Helper.class, TestClearance.class)).thenReturn(false);
+        assertThatThrownBy(() -> fixture.precompile(parameter))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cannot create %s from %s.", TestClearance.class, Helper.class);
+    }
+
 }
@@ -1,21 +1,29 @@
 package io.github.naomimyselfandi.staticsecurity.web;
 
+import io.github.naomimyselfandi.staticsecurity.Clearance;
 import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.env.Environment;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.support.CompositeUriComponentsContributor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolverComposite;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,9 +46,43 @@ class StaticSecurityWebConfigurationTest {
     @Mock
     private ObjectProvider<RequestMappingHandlerAdapter> adapterProvider;
 
-    @InjectMocks
+    @Mock
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Mock
+    private ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    @Mock
+    private Environment environment;
+
+    @Mock
+    private ContextRefreshedEvent event;
+
     private StaticSecurityWebConfiguration fixture;
 
+    private interface TestClearance extends Clearance {}
+
+    private record Definition(Object foo) {}
+
+    private static class TestController {
+
+        @SuppressWarnings("unused")
+        void merged(@MergedClearance(Definition.class) TestClearance clearance, String other) {}
+
+        @SuppressWarnings("unused")
+        void plain(String other) {}
+
+    }
+
+    @BeforeEach
+    void setup() {
+        fixture = new StaticSecurityWebConfiguration(
+                staticSecurityService,
+                adapterProvider,
+                handlerMappings,
+                environment);
+    }
+
     @Test
     void addArgumentResolvers() {
         var list = new ArrayList<HandlerMethodArgumentResolver>();
@@ -70,4 +112,43 @@ class StaticSecurityWebConfigurationTest {
                 });
     }
 
+    @Test
+    void onApplicationEvent() {
+        setupHandlerMethods();
+        when(staticSecurityService.canCreate(Definition.class, TestClearance.class)).thenReturn(true);
+        fixture.onApplicationEvent(event);
+        fixture.onApplicationEvent(event);
+        verify(staticSecurityService).canCreate(Definition.class, TestClearance.class);
+        verifyNoMoreInteractions(staticSecurityService);
+    }
+
+    @Test
+    void onApplicationEvent_WhenAParameterCannotBeResolved_ThenThrows() {
+        setupHandlerMethods();
+        when(staticSecurityService.canCreate(Definition.class, TestClearance.class)).thenReturn(false);
+        assertThatThrownBy(() -> fixture.onApplicationEvent(event))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Some @MergedClearance parameters can't be resolved:\n- parameter 0 of ")
+                .hasMessageEndingWith(": Cannot create %s from %s.", TestClearance.class, Definition.class)
+                .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+    }
+
+    @Test
+    void onApplicationEvent_WhenWarmUpIsDisabled_ThenDoesNothing() {
+        when(environment.getProperty("staticsecurity.warm-up.enabled", Boolean.class, true)).thenReturn(false);
+        fixture.onApplicationEvent(event);
+        verifyNoInteractions(handlerMappings, staticSecurityService);
+    }
+
+    private void setupHandlerMethods() {
+        when(environment.getProperty("staticsecurity.warm-up.enabled", Boolean.class, true)).thenReturn(true);
+        when(handlerMappings.stream()).then(invocation -> Stream.of(handlerMapping));
+        var controller = new TestController();
+        var handlerMethods = new LinkedHashMap<RequestMappingInfo, HandlerMethod>();
+        for (var method : TestController.class.getDeclaredMethods()) {
+            handlerMethods.put(RequestMappingInfo.paths(method.getName()).build(), new HandlerMethod(controller, method));
+        }
+        when(handlerMapping.getHandlerMethods()).thenReturn(handlerMethods);
+    }
+
 }
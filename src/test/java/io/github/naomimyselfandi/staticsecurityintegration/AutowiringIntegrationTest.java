@@ -1,6 +1,8 @@
 package io.github.naomimyselfandi.staticsecurityintegration;
 
+import io.github.naomimyselfandi.staticsecurity.CacheStatistics;
 import io.github.naomimyselfandi.staticsecurity.ClearanceFactory;
+import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +18,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ContextConfiguration(classes = TestConfiguration.class)
 class AutowiringIntegrationTest {
 
+    @Autowired
+    private StaticSecurityService staticSecurityService;
+
     @Autowired(required = false)
     private ClearanceFactory<UUID, DocumentRequest> literalFactory;
 
@@ -59,4 +64,24 @@ class AutowiringIntegrationTest {
                 .returns(true, DocumentUpdateRequest::createsNewChapter);
     }
 
+    @Test
+    void cacheStatistics() {
+        literalFactory.create(UUID.randomUUID()).require();
+        literalFactory.create(UUID.randomUUID()).require();
+        assertThat(staticSecurityService.getCacheStatistics())
+                .containsKeys(
+                        "accessPolicyCache",
+                        "beanCache",
+                        "clearanceLayoutCache",
+                        "clearanceModelCache",
+                        "dataSourceCache",
+                        "prefetchCache",
+                        "propertyCache",
+                        "propertyProviderCache")
+                .extractingByKey("clearanceModelCache")
+                .returns(true, it -> it.hits() > 0)
+                .returns(true, it -> it.misses() > 0)
+                .returns(0L, CacheStatistics::evictions);
+    }
+
 }
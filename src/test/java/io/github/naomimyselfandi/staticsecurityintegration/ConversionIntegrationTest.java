@@ -1,6 +1,7 @@
 package io.github.naomimyselfandi.staticsecurityintegration;
 
 import io.github.naomimyselfandi.staticsecurity.AccessPolicy;
+import io.github.naomimyselfandi.staticsecurity.SourcePath;
 import io.github.naomimyselfandi.staticsecurity.StaticSecurityService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,11 +38,32 @@ class ConversionIntegrationTest {
 
     private enum SourceType {DTO, STRING, UUID}
 
+    interface NestedDocumentRequest extends DocumentRequest {
+        @Override
+        @SourcePath("/document/id")
+        UUID getId();
+    }
+
+    record Document(String id) {}
+
+    record Envelope(Document document) {}
+
     @BeforeEach
     void setup() {
         lenient().when(accessPolicy.check(any())).thenReturn(null);
     }
 
+    @Test
+    void create_WhenAPropertyHasASourcePath_ThenFollowsIt() {
+        var id = UUID.randomUUID();
+        var map = Map.of("document", Map.of("id", id.toString()));
+        var record = new Envelope(new Document(id.toString()));
+        assertThat(staticSecurityService.create(map, NestedDocumentRequest.class).require())
+                .returns(id, DocumentRequest::getId);
+        assertThat(staticSecurityService.create(record, NestedDocumentRequest.class).require())
+                .returns(id, DocumentRequest::getId);
+    }
+
     @EnumSource
     @ParameterizedTest
     void convert(SourceType sourceType) {
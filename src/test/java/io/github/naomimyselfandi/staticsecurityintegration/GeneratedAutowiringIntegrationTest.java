@@ -0,0 +1,6 @@
+package io.github.naomimyselfandi.staticsecurityintegration;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "staticsecurity.implementation=GENERATED")
+class GeneratedAutowiringIntegrationTest extends AutowiringIntegrationTest {}
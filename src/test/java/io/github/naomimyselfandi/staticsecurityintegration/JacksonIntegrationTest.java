@@ -2,6 +2,7 @@ package io.github.naomimyselfandi.staticsecurityintegration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.naomimyselfandi.staticsecurity.AccessPolicy;
+import io.github.naomimyselfandi.staticsecurity.Clearance;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -30,6 +31,14 @@ class JacksonIntegrationTest {
 
     private enum SourceType {DTO, STRING, UUID}
 
+    record Body(String a, int b) {}
+
+    interface Wrapped extends Clearance {
+
+        Body body();
+
+    }
+
     @EnumSource
     @ParameterizedTest
     void convertValue(SourceType sourceType) {
@@ -56,6 +65,36 @@ class JacksonIntegrationTest {
                 .returns(true, DocumentUpdateRequest::createsNewChapter);
     }
 
+    @Test
+    void readValue() throws Exception {
+        var id = UUID.randomUUID();
+        var contents = UUID.randomUUID().toString();
+        var json = """
+                {"id": "%s", "ignored": {"nested": [1, 2, 3]}, "contents": "%s", "chapter": null}
+                """.formatted(id, contents);
+        when(accessPolicy.check(any())).thenReturn(null);
+        assertThat(objectMapper.readValue(json, DocumentUpdateRequest.class))
+                .returns(id, DocumentRequest::getId)
+                .returns(contents, DocumentUpdateRequest::getContents)
+                .returns(Optional.empty(), DocumentUpdateRequest::getChapter);
+    }
+
+    @Test
+    void readValue_WhenTheObjectIsTheOnlyRequiredProperty_ThenFlattensIt() throws Exception {
+        var json = """
+                {"a": "x", "b": 1}
+                """;
+        assertThat(objectMapper.readValue(json, Wrapped.class)).returns(new Body("x", 1), Wrapped::body);
+    }
+
+    @Test
+    void readValue_WhenTheOnlyRequiredPropertyIsPresent_ThenReadsIt() throws Exception {
+        var json = """
+                {"body": {"a": "x", "b": 1}, "a": "y"}
+                """;
+        assertThat(objectMapper.readValue(json, Wrapped.class)).returns(new Body("x", 1), Wrapped::body);
+    }
+
     @EnumSource
     @ParameterizedTest
     void convertValue_WhenAccessIsDenied_ThenThrows(SourceType sourceType) {